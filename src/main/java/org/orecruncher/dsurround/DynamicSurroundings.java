@@ -32,6 +32,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.orecruncher.dsurround.config.Config;
 import org.orecruncher.dsurround.config.ConfigMenuBuilder;
 import org.orecruncher.dsurround.gui.Keys;
+import org.orecruncher.dsurround.huds.lightlevel.LightLevelHUD;
 import org.orecruncher.lib.config.ConfigGui;
 import org.orecruncher.lib.compat.ModEnvironment;
 import org.orecruncher.lib.fml.ClientLoginChecks;
@@ -91,6 +92,8 @@ public final class DynamicSurroundings {
             createPath(DATA_PATH);
             createPath(DUMP_PATH);
 
+            LightLevelHUD.initialize();
+
             doConfigMenuSetup();
         }
     }
@@ -0,0 +1,163 @@
+/*
+ * Dynamic Surroundings
+ * Copyright (C) 2020  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.dsurround.huds.lightlevel;
+
+import com.mojang.blaze3d.vertex.IVertexBuilder;
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.client.renderer.IRenderTypeBuffer;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.util.math.vector.Matrix4f;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import org.orecruncher.lib.collections.ObjectArray;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * The glyph quads of a string as laid out by a FontRenderer.  The string is rendered once into a capturing buffer
+ * and the positions and texture coordinates of the vertices are kept, grouped by the render type the font asked
+ * for.  Color and lighting are supplied when the label is emitted.
+ */
+@OnlyIn(Dist.CLIENT)
+final class BakedLabel {
+
+    static final class Part {
+        public final RenderType type;
+        public float[] data = new float[16 * LabelMesh.BAKED_FLOATS_PER_VERTEX];
+        public int vertices;
+
+        Part(@Nonnull final RenderType type) {
+            this.type = type;
+        }
+    }
+
+    private final ObjectArray<Part> parts = new ObjectArray<>(2);
+
+    private BakedLabel() {
+    }
+
+    @Nonnull
+    public ObjectArray<Part> getParts() {
+        return this.parts;
+    }
+
+    /**
+     * Lays out the text using the font and captures the resulting glyph vertices.
+     *
+     * @param font Font to render with
+     * @param text Text of the label
+     * @param x    X offset of the text in label space
+     * @param y    Y offset of the text in label space
+     * @return The baked label
+     */
+    @Nonnull
+    public static BakedLabel bake(@Nonnull final FontRenderer font, @Nonnull final String text, final float x, final float y) {
+        final BakedLabel label = new BakedLabel();
+        final Capture capture = new Capture(label);
+        final Matrix4f identity = new Matrix4f();
+        identity.setIdentity();
+        font.renderString(text, x, y, -1, false, identity, capture, false, 0, 15728880);
+        return label;
+    }
+
+    /**
+     * Collects the vertices emitted by the font.  Only position and texture coordinates are kept.
+     */
+    private static final class Capture implements IRenderTypeBuffer, IVertexBuilder {
+
+        private final BakedLabel label;
+        private Part current;
+        private float x;
+        private float y;
+        private float u;
+        private float v;
+
+        Capture(@Nonnull final BakedLabel label) {
+            this.label = label;
+        }
+
+        @Override
+        @Nonnull
+        public IVertexBuilder getBuffer(@Nonnull final RenderType type) {
+            for (final Part p : this.label.parts) {
+                if (p.type == type) {
+                    this.current = p;
+                    return this;
+                }
+            }
+            this.current = new Part(type);
+            this.label.parts.add(this.current);
+            return this;
+        }
+
+        @Override
+        @Nonnull
+        public IVertexBuilder pos(final double x, final double y, final double z) {
+            this.x = (float) x;
+            this.y = (float) y;
+            return this;
+        }
+
+        @Override
+        @Nonnull
+        public IVertexBuilder color(final int red, final int green, final int blue, final int alpha) {
+            return this;
+        }
+
+        @Override
+        @Nonnull
+        public IVertexBuilder tex(final float u, final float v) {
+            this.u = u;
+            this.v = v;
+            return this;
+        }
+
+        @Override
+        @Nonnull
+        public IVertexBuilder overlay(final int u, final int v) {
+            return this;
+        }
+
+        @Override
+        @Nonnull
+        public IVertexBuilder lightmap(final int u, final int v) {
+            return this;
+        }
+
+        @Override
+        @Nonnull
+        public IVertexBuilder normal(final float x, final float y, final float z) {
+            return this;
+        }
+
+        @Override
+        public void endVertex() {
+            final Part p = this.current;
+            final int idx = p.vertices * LabelMesh.BAKED_FLOATS_PER_VERTEX;
+            if (idx + LabelMesh.BAKED_FLOATS_PER_VERTEX > p.data.length)
+                p.data = Arrays.copyOf(p.data, p.data.length * 2);
+            p.data[idx] = this.x;
+            p.data[idx + 1] = this.y;
+            p.data[idx + 2] = this.u;
+            p.data[idx + 3] = this.v;
+            p.vertices++;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Dynamic Surroundings
+ * Copyright (C) 2020  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.dsurround.huds.lightlevel;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Assembles the vertices of a baked label for a particular location.  Baked glyph vertices are stored as x, y, u, v
+ * in the label's own 2D space.  The caller supplies the label origin and the two axes that label space maps onto,
+ * already transformed for the camera, and gets back x, y, z, u, v for each vertex ready to hand to a vertex builder.
+ * No game state is touched so it can be exercised without a render context.
+ */
+final class LabelMesh {
+    private LabelMesh() {
+
+    }
+
+    public static final int BAKED_FLOATS_PER_VERTEX = 4;
+    public static final int FLOATS_PER_VERTEX = 5;
+
+    /**
+     * Transforms baked glyph vertices into place.
+     *
+     * @param glyphs      Baked vertices, x, y, u, v per vertex
+     * @param vertexCount Number of vertices to transform
+     * @param originX     X of the label origin
+     * @param originY     Y of the label origin
+     * @param originZ     Z of the label origin
+     * @param basis       Label X axis followed by the label Y axis, 6 floats
+     * @param out         Receives x, y, z, u, v per vertex; must hold vertexCount * FLOATS_PER_VERTEX floats
+     */
+    public static void assemble(@Nonnull final float[] glyphs, final int vertexCount, final float originX,
+                                final float originY, final float originZ, @Nonnull final float[] basis,
+                                @Nonnull final float[] out) {
+        for (int i = 0; i < vertexCount; i++) {
+            final int src = i * BAKED_FLOATS_PER_VERTEX;
+            final int dst = i * FLOATS_PER_VERTEX;
+            final float gx = glyphs[src];
+            final float gy = glyphs[src + 1];
+            out[dst] = originX + basis[0] * gx + basis[3] * gy;
+            out[dst + 1] = originY + basis[1] * gx + basis[4] * gy;
+            out[dst + 2] = originZ + basis[2] * gx + basis[5] * gy;
+            out[dst + 3] = glyphs[src + 2];
+            out[dst + 4] = glyphs[src + 3];
+        }
+    }
+}
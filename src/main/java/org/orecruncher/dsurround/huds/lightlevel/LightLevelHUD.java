@@ -21,25 +21,38 @@ package org.orecruncher.dsurround.huds.lightlevel;
 import com.mojang.blaze3d.matrix.MatrixStack;
 import com.mojang.blaze3d.platform.GlStateManager;
 import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.IVertexBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.material.Material;
 import net.minecraft.client.gui.FontRenderer;
 import net.minecraft.client.renderer.IRenderTypeBuffer;
+import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.Tessellator;
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.entity.EntitySpawnPlacementRegistry;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.resources.IReloadableResourceManager;
+import net.minecraft.resources.IResourceManagerReloadListener;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.shapes.VoxelShape;
+import net.minecraft.util.math.vector.Matrix4f;
 import net.minecraft.util.math.vector.Quaternion;
 import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.util.math.vector.Vector3f;
+import net.minecraft.util.math.vector.Vector4f;
 import net.minecraft.world.LightType;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.fml.common.Mod;
@@ -48,6 +61,7 @@ import org.orecruncher.dsurround.config.Config;
 import org.orecruncher.lib.GameUtils;
 import org.orecruncher.lib.TickCounter;
 import org.orecruncher.lib.collections.ObjectArray;
+import org.orecruncher.lib.events.BlockUpdateEvent;
 import org.orecruncher.lib.gui.Color;
 import org.orecruncher.lib.gui.ColorPalette;
 import org.orecruncher.lib.math.MathStuff;
@@ -56,11 +70,15 @@ import org.orecruncher.lib.particles.FrustumHelper;
 import org.lwjgl.opengl.GL11;
 
 import javax.annotation.Nonnull;
+import java.util.Arrays;
 
 @Mod.EventBusSubscriber(modid = DynamicSurroundings.MOD_ID, value = Dist.CLIENT, bus = Mod.EventBusSubscriber.Bus.FORGE)
 public final class LightLevelHUD {
 
+    // Font and unicode setting the labels were baked against.  Font is cleared when resources reload so the labels
+    // are baked again against the new glyphs.
     private static FontRenderer font;
+    private static boolean fontUnicode;
 
     public enum Mode {
         BLOCK,
@@ -95,8 +113,43 @@ public final class LightLevelHUD {
         public int color;
     }
 
+    /**
+     * Positions within a column where a light level label can be displayed.  The light level itself is read when the
+     * labels are assembled so the column only has to be rescanned when a block in it changes.
+     */
+    private static final class Column {
+        // Range of Y that has been scanned, inclusive
+        public int minY;
+        public int maxY;
+        public int count;
+        public int[] y = new int[4];
+        public float[] offset = new float[4];
+        public boolean[] spawn = new boolean[4];
+
+        public void add(final int y, final float offset, final boolean spawn) {
+            if (this.count == this.y.length) {
+                final int size = this.count * 2;
+                this.y = Arrays.copyOf(this.y, size);
+                this.offset = Arrays.copyOf(this.offset, size);
+                this.spawn = Arrays.copyOf(this.spawn, size);
+            }
+            this.y[this.count] = y;
+            this.offset[this.count] = offset;
+            this.spawn[this.count] = spawn;
+            this.count++;
+        }
+
+        public void clear() {
+            this.count = 0;
+        }
+    }
+
     private static boolean showHUD = false;
 
+    // Scanned columns keyed by packed X/Z coordinate
+    private static final Long2ObjectOpenHashMap<Column> columns = new Long2ObjectOpenHashMap<>();
+    private static ClientWorld columnWorld;
+
     private static final int ALLOCATION_SIZE = 2048;
     private static final ObjectArray<LightCoord> lightLevels = new ObjectArray<>(ALLOCATION_SIZE);
     private static final BlockPos.Mutable mutable = new BlockPos.Mutable();
@@ -104,6 +157,12 @@ public final class LightLevelHUD {
 
     private static final String[] lightLevelText = new String[16];
     private static final int[] margins = new int[16];
+    private static final BakedLabel[] bakedLabels = new BakedLabel[16];
+    private static final ObjectArray<RenderType> bakedTypes = new ObjectArray<>(2);
+    private static final float[] basis = new float[6];
+    private static float[] vertices = new float[16 * LabelMesh.FLOATS_PER_VERTEX];
+    private static final float LABEL_SCALE = 0.07F;
+    private static final int FULL_BRIGHT = 15728880;
 
     static {
         for (int i = 0; i < ALLOCATION_SIZE; i++)
@@ -120,7 +179,7 @@ public final class LightLevelHUD {
     }
 
     protected static boolean inFrustum(final double x, final double y, final double z) {
-        return FrustumHelper.isLocationInFrustum(new Vector3d(x, y, z));
+        return FrustumHelper.isLocationInFrustum(x, y, z);
     }
 
     protected static boolean renderLightLevel(@Nonnull final BlockState state, @Nonnull final BlockState below) {
@@ -143,28 +202,107 @@ public final class LightLevelHUD {
         return state.getBlock() == Blocks.SNOW ? adjust + 0.125F : adjust;
     }
 
+    /**
+     * Scans part of a column for positions where a light level label can be shown.
+     */
+    private static void scanColumn(@Nonnull final ClientWorld world, @Nonnull final Column column, final int x, final int z, final int minY, final int maxY) {
+        BlockState lastState = null;
+        for (int y = Math.max(minY, 1); y <= maxY; y++) {
+            mutable.setPos(x, y, z);
+            final BlockState state = world.getBlockState(mutable);
+
+            if (lastState == null) {
+                mutable.setPos(x, y - 1, z);
+                lastState = world.getBlockState(mutable);
+                mutable.setPos(x, y, z);
+            }
+
+            if (renderLightLevel(state, lastState)) {
+                final boolean mobSpawn = lastState.canCreatureSpawn(
+                        world,
+                        mutable,
+                        EntitySpawnPlacementRegistry.PlacementType.ON_GROUND,
+                        EntityType.ZOMBIE);
+                column.add(y, heightAdjustment(state, lastState, mutable) + 0.002F, mobSpawn);
+            }
+
+            lastState = state;
+        }
+    }
+
+    /**
+     * Obtains the column at the given coordinates, scanning whatever part of the requested Y range has not been
+     * scanned before.
+     */
+    @Nonnull
+    private static Column getColumn(@Nonnull final ClientWorld world, final int x, final int z, final int minY, final int maxY) {
+        final long key = ChunkPos.asLong(x, z);
+        Column column = columns.get(key);
+        if (column == null || maxY < column.minY - 1 || minY > column.maxY + 1) {
+            // Nothing usable, so scan the full range
+            if (column == null) {
+                column = new Column();
+                columns.put(key, column);
+            } else {
+                column.clear();
+            }
+            scanColumn(world, column, x, z, minY, maxY);
+            column.minY = minY;
+            column.maxY = maxY;
+            return column;
+        }
+
+        // Only scan the slices that were not covered before
+        if (minY < column.minY) {
+            scanColumn(world, column, x, z, minY, column.minY - 1);
+            column.minY = minY;
+        }
+        if (maxY > column.maxY) {
+            scanColumn(world, column, x, z, column.maxY + 1, maxY);
+            column.maxY = maxY;
+        }
+        return column;
+    }
+
     protected static void updateLightInfo(@Nonnull final Vector3d position) {
 
         final FontRenderer fr = GameUtils.getMC().fontRenderer;
 
-        if (fr != font) {
+        final boolean unicode = GameUtils.getGameSettings().forceUnicodeFont;
+
+        if (fr != font || unicode != fontUnicode) {
             font = fr;
-            for (int i = 0; i < 16; i++)
+            fontUnicode = unicode;
+            bakedTypes.clear();
+            final int yAdjust = -(font.FONT_HEIGHT / 2);
+            for (int i = 0; i < 16; i++) {
                 margins[i] = -(font.getStringWidth(lightLevelText[i]) + 1) / 2;
+                bakedLabels[i] = BakedLabel.bake(font, lightLevelText[i], margins[i], yAdjust);
+                for (final BakedLabel.Part part : bakedLabels[i].getParts())
+                    if (!bakedTypes.contains(part.type))
+                        bakedTypes.add(part.type);
+            }
         }
 
         nextCoord = 0;
 
+        final ClientWorld world = GameUtils.getWorld();
+        if (world != columnWorld) {
+            columns.clear();
+            columnWorld = world;
+        }
+
         final ColorSet colors = Config.CLIENT.lightLevel.colorSet.get();
         final Mode displayMode = Config.CLIENT.lightLevel.mode.get();
-        final int skyLightSub = GameUtils.getWorld().getSkylightSubtracted();
+        final boolean hideSafe = Config.CLIENT.lightLevel.hideSafe.get();
+        final int spawnThreshold = Config.CLIENT.lightLevel.lightSpawnThreshold.get();
+        final int skyLightSub = world.getSkylightSubtracted();
         final int rangeXZ = Config.CLIENT.lightLevel.range.get() * 2 + 1;
         final int rangeY = Config.CLIENT.lightLevel.range.get() + 1;
         final int originX = MathStuff.floor(position.x) - (rangeXZ / 2);
         final int originZ = MathStuff.floor(position.z) - (rangeXZ / 2);
         final int originY = MathStuff.floor(position.y) - (rangeY - 3);
-
-        final ClientWorld world = GameUtils.getWorld();
+        final int maxY = originY + rangeY - 1;
 
         for (int dX = 0; dX < rangeXZ; dX++)
             for (int dZ = 0; dZ < rangeXZ; dZ++) {
@@ -172,68 +310,112 @@ public final class LightLevelHUD {
                 final int trueX = originX + dX;
                 final int trueZ = originZ + dZ;
 
-                BlockState lastState = null;
+                // Skip the whole column if none of it can be seen
+                if (!FrustumHelper.isBoxInFrustum(trueX, originY, trueZ, trueX, originY + rangeY, trueZ))
+                    continue;
 
-                for (int dY = 0; dY < rangeY; dY++) {
+                final Column column = getColumn(world, trueX, trueZ, originY, maxY);
 
-                    final int trueY = originY + dY;
-
-                    if (trueY < 1 || !inFrustum(trueX, trueY, trueZ))
-                        continue;
+                for (int i = 0; i < column.count; i++) {
 
-                    final BlockPos pos = new BlockPos(trueX, trueY, trueZ);
-                    final BlockState state = world.getBlockState(pos);
+                    final int trueY = column.y[i];
 
-                    if (lastState == null)
-                        lastState = world.getBlockState(pos.down());
+                    if (trueY < originY || trueY > maxY || !inFrustum(trueX, trueY, trueZ))
+                        continue;
 
-                    if (renderLightLevel(state, lastState)) {
+                    final boolean mobSpawn = column.spawn[i];
+                    if (mobSpawn || !hideSafe) {
                         mutable.setPos(trueX, trueY, trueZ);
+                        final int blockLight = world.getLightFor(LightType.BLOCK, mutable);
+                        final int skyLight = world.getLightFor(LightType.SKY, mutable) - skyLightSub;
+                        final int effective = Math.max(blockLight, skyLight);
+
+                        final int result;
+                        if (displayMode == Mode.BLOCK_SKY) {
+                            result = effective;
+                        } else if (displayMode == Mode.BLOCK)  {
+                            result = blockLight;
+                        } else {
+                            result = skyLight;
+                        }
 
-                        final boolean mobSpawn = lastState.canCreatureSpawn(
-                                GameUtils.getWorld(),
-                                mutable,
-                                EntitySpawnPlacementRegistry.PlacementType.ON_GROUND,
-                                EntityType.ZOMBIE);
-
-                        if (mobSpawn || !Config.CLIENT.lightLevel.hideSafe.get()) {
-                            final int blockLight = world.getLightFor(LightType.BLOCK, mutable);
-                            final int skyLight = world.getLightFor(LightType.SKY, mutable) - skyLightSub;
-                            final int effective = Math.max(blockLight, skyLight);
-
-                            final int result;
-                            if (displayMode == Mode.BLOCK_SKY) {
-                                result = effective;
-                            } else if (displayMode == Mode.BLOCK)  {
-                                result = blockLight;
-                            } else {
-                                result = skyLight;
-                            }
-
-                            Color color = colors.safe;
-                            if (!mobSpawn) {
-                                color = colors.noSpawn;
-                            } else if (blockLight <= Config.CLIENT.lightLevel.lightSpawnThreshold.get()) {
-                                if (effective > Config.CLIENT.lightLevel.lightSpawnThreshold.get())
-                                    color = colors.caution;
-                                else
-                                    color = colors.hazard;
-                            }
-
-                            if (!(color == colors.safe && Config.CLIENT.lightLevel.hideSafe.get())) {
-                                final LightCoord coord = nextCoord();
-                                coord.x = trueX;
-                                coord.y = trueY + heightAdjustment(state, lastState, mutable) + 0.002D;
-                                coord.z = trueZ;
-                                coord.lightLevel = result;
-                                coord.color = color.rgbWithAlpha(254);
-                            }
+                        Color color = colors.safe;
+                        if (!mobSpawn) {
+                            color = colors.noSpawn;
+                        } else if (blockLight <= spawnThreshold) {
+                            if (effective > spawnThreshold)
+                                color = colors.caution;
+                            else
+                                color = colors.hazard;
                         }
-                    }
 
-                    lastState = state;
+                        if (!(color == colors.safe && hideSafe)) {
+                            final LightCoord coord = nextCoord();
+                            coord.x = trueX;
+                            coord.y = trueY + column.offset[i];
+                            coord.z = trueZ;
+                            coord.lightLevel = result;
+                            coord.color = color.rgbWithAlpha(254);
+                        }
+                    }
                 }
             }
+
+        // Drop columns that have fallen well outside of the range
+        if (columns.size() > rangeXZ * rangeXZ * 2) {
+            final int margin = rangeXZ / 2;
+            final ObjectIterator<Long2ObjectMap.Entry<Column>> itr = columns.long2ObjectEntrySet().fastIterator();
+            while (itr.hasNext()) {
+                final long key = itr.next().getLongKey();
+                final int x = ChunkPos.getX(key);
+                final int z = ChunkPos.getZ(key);
+                if (x < originX - margin || x >= originX + rangeXZ + margin || z < originZ - margin || z >= originZ + rangeXZ + margin)
+                    itr.remove();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onBlockUpdate(@Nonnull final BlockUpdateEvent event) {
+        if (columns.isEmpty())
+            return;
+        // The block and the one above it decide whether a label is shown, so drop the column and rescan it later
+        final LongIterator itr = event.getPositions().iterator();
+        while (itr.hasNext()) {
+            final long packed = itr.nextLong();
+            columns.remove(ChunkPos.asLong(BlockPos.unpackX(packed), BlockPos.unpackZ(packed)));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(@Nonnull final ChunkEvent.Load event) {
+        if (columns.isEmpty() || event.getWorld() != columnWorld)
+            return;
+        // Columns scanned before the chunk arrived are empty
+        final ChunkPos pos = event.getChunk().getPos();
+        for (int x = pos.getXStart(); x <= pos.getXEnd(); x++)
+            for (int z = pos.getZStart(); z <= pos.getZEnd(); z++)
+                columns.remove(ChunkPos.asLong(x, z));
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(@Nonnull final WorldEvent.Unload event) {
+        if (event.getWorld() == columnWorld) {
+            columns.clear();
+            columnWorld = null;
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    public static void initialize() {
+        if (GameUtils.getMC().getResourceManager() instanceof IReloadableResourceManager) {
+            ((IReloadableResourceManager) GameUtils.getMC().getResourceManager()).addReloadListener(
+                    (IResourceManagerReloadListener) manager -> {
+                        // Nothing is drawn until the labels are baked again
+                        font = null;
+                        bakedTypes.clear();
+                    });
+        }
     }
 
     public static void toggleDisplay() {
@@ -267,6 +449,20 @@ public final class LightLevelHUD {
         drawStringRender(matrixStack, player);
     }
 
+    @Nonnull
+    private static Vector4f transform(@Nonnull final Matrix4f matrix, final float x, final float y, final float z, final float w) {
+        final Vector4f v = new Vector4f(x, y, z, w);
+        v.transform(matrix);
+        return v;
+    }
+
+    private static void setAxis(@Nonnull final Matrix4f matrix, final float x, final float y, final float z, final int offset) {
+        final Vector4f v = transform(matrix, x, y, z, 0);
+        basis[offset] = v.getX();
+        basis[offset + 1] = v.getY();
+        basis[offset + 2] = v.getZ();
+    }
+
     private static void drawStringRender(@Nonnull final MatrixStack matrixStack, @Nonnull final PlayerEntity player) {
 
         final boolean thirdPerson = GameUtils.isThirdPersonView();
@@ -280,8 +476,6 @@ public final class LightLevelHUD {
         final Quaternion rotY = Vector3f.YP.rotationDegrees(rotationAngle);
         final Quaternion rotX = Vector3f.XP.rotationDegrees(90);
         final Vector3d view = GameUtils.getMC().gameRenderer.getActiveRenderInfo().getProjectedView();
-        matrixStack.push();
-        matrixStack.translate(-view.getX(), -view.getY(), -view.getZ());
 
         RenderSystem.disableLighting();
         RenderSystem.enableBlend();
@@ -290,38 +484,61 @@ public final class LightLevelHUD {
         RenderSystem.depthFunc(GL11.GL_LEQUAL);
         RenderSystem.depthMask(true);
 
-        IRenderTypeBuffer.Impl buffer = IRenderTypeBuffer.getImpl(Tessellator.getInstance().getBuffer());
-
-        final int yAdjust = -(font.FONT_HEIGHT / 2);
-
-        for (int i = 0; i < nextCoord; i++) {
-            final LightCoord coord = lightLevels.get(i);
-            final String text = lightLevelText[coord.lightLevel];
-            final int margin = margins[coord.lightLevel];
-            final float scale = 0.07F;
-
-            matrixStack.push();
-            matrixStack.translate(coord.x + 0.5D, coord.y, coord.z + 0.5D);
-            matrixStack.rotate(rotY);
-            matrixStack.rotate(rotX);
-            matrixStack.scale(-scale, -scale, scale);
-
-            font.renderString(
-                    text,
-                    margin,
-                    yAdjust,
-                    coord.color,
-                    false,
-                    matrixStack.getLast().getMatrix(),
-                    buffer,
-                    false,
-                    0,
-                    15728880);
-
-            matrixStack.pop();
+        // The rotation and scale are the same for every label, so work out where the label axes land once and
+        // place each label by its origin alone
+        matrixStack.push();
+        matrixStack.rotate(rotY);
+        matrixStack.rotate(rotX);
+        matrixStack.scale(-LABEL_SCALE, -LABEL_SCALE, LABEL_SCALE);
+        final Matrix4f labelMatrix = matrixStack.getLast().getMatrix();
+        setAxis(labelMatrix, 1, 0, 0, 0);
+        setAxis(labelMatrix, 0, 1, 0, 3);
+        matrixStack.pop();
+
+        final Matrix4f camera = matrixStack.getLast().getMatrix();
+        final Vector4f axisX = transform(camera, 1, 0, 0, 0);
+        final Vector4f axisY = transform(camera, 0, 1, 0, 0);
+        final Vector4f axisZ = transform(camera, 0, 0, 1, 0);
+        final Vector4f origin = transform(camera, 0, 0, 0, 1);
+
+        final IRenderTypeBuffer.Impl buffer = IRenderTypeBuffer.getImpl(Tessellator.getInstance().getBuffer());
+
+        for (int t = 0; t < bakedTypes.size(); t++) {
+            final RenderType type = bakedTypes.get(t);
+            final IVertexBuilder builder = buffer.getBuffer(type);
+            for (int i = 0; i < nextCoord; i++) {
+                final LightCoord coord = lightLevels.get(i);
+                final float x = (float) (coord.x + 0.5D - view.getX());
+                final float y = (float) (coord.y - view.getY());
+                final float z = (float) (coord.z + 0.5D - view.getZ());
+                final float oX = origin.getX() + axisX.getX() * x + axisY.getX() * y + axisZ.getX() * z;
+                final float oY = origin.getY() + axisX.getY() * x + axisY.getY() * y + axisZ.getY() * z;
+                final float oZ = origin.getZ() + axisX.getZ() * x + axisY.getZ() * y + axisZ.getZ() * z;
+                final int a = (coord.color >> 24) & 0xFF;
+                final int r = (coord.color >> 16) & 0xFF;
+                final int g = (coord.color >> 8) & 0xFF;
+                final int b = coord.color & 0xFF;
+
+                final ObjectArray<BakedLabel.Part> parts = bakedLabels[coord.lightLevel].getParts();
+                for (int p = 0; p < parts.size(); p++) {
+                    final BakedLabel.Part part = parts.get(p);
+                    if (part.type != type)
+                        continue;
+                    final int needed = part.vertices * LabelMesh.FLOATS_PER_VERTEX;
+                    if (vertices.length < needed)
+                        vertices = new float[needed];
+                    LabelMesh.assemble(part.data, part.vertices, oX, oY, oZ, basis, vertices);
+                    for (int v = 0; v < needed; v += LabelMesh.FLOATS_PER_VERTEX) {
+                        builder.pos(vertices[v], vertices[v + 1], vertices[v + 2])
+                                .color(r, g, b, a)
+                                .tex(vertices[v + 3], vertices[v + 4])
+                                .lightmap(FULL_BRIGHT)
+                                .endVertex();
+                    }
+                }
+            }
         }
 
         buffer.finish();
-        matrixStack.pop();
     }
 }
@@ -151,6 +151,7 @@ public final class Config {
             public final IntValue waterfallCutoff;
             public final BooleanValue enableWaterRipples;
             public final ForgeConfigSpec.EnumValue<RippleStyle> waterRippleStyle;
+            public final IntValue handlerBudget;
 
             Effects(@Nonnull final ForgeConfigSpec.Builder builder) {
                 builder.comment("Options for controlling various effects")
@@ -221,6 +222,11 @@ public final class Config {
                         .translation("environs.cfg.effects.WaterRippleStyle")
                         .defineEnum("Water Ripple Style", RippleStyle.PIXELATED_CIRCLE, e -> true);
 
+                this.handlerBudget = builder
+                        .comment("Microseconds per tick effect handlers can use before low priority work is deferred")
+                        .translation("environs.cfg.effects.HandlerBudget")
+                        .defineInRange("Handler Time Budget", 2000, 250, 50000);
+
                 builder.pop();
             }
 
@@ -20,6 +20,7 @@ package org.orecruncher.environs.effects.emitters;
 
 import net.minecraft.client.settings.ParticleStatus;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.IBlockReader;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
@@ -33,6 +34,7 @@ import org.orecruncher.environs.library.Constants;
 import org.orecruncher.lib.GameUtils;
 import org.orecruncher.lib.WorldUtils;
 import org.orecruncher.lib.math.MathStuff;
+import org.orecruncher.lib.particles.CollectionManager;
 
 import net.minecraft.util.math.BlockPos;
 import org.orecruncher.sndctrl.api.acoustics.IAcoustic;
@@ -126,7 +128,8 @@ public class WaterSplashJet extends Jet {
 	@Override
 	protected void spawnJetParticle() {
 		if (Collections.canFitWaterSpray()) {
-			final int splashCount = getSpawnCount();
+			final float scale = CollectionManager.getSpawnScale(this.posX, this.posY, this.posZ);
+			final int splashCount = MathHelper.ceil(getSpawnCount() * scale);
 
 			for (int j = 0; (float) j < splashCount; ++j) {
 				final double xOffset = (RANDOM.nextFloat() * 2.0F - 1.0F);
@@ -61,14 +61,19 @@ public final class Collections {
     private final static IParticleCollection theSprays = CollectionManager.create("Water Spray", SPRAY_RENDER);
     private final static IParticleCollection theFireFlies = CollectionManager.create("Fireflies", FIREFLY_RENDER);
 
+    private final static MotePool<MoteWaterRipple> ripplePool = CollectionManager.createPool("Rain Ripples", MoteWaterRipple::new);
+    private final static MotePool<MoteWaterSpray> sprayPool = CollectionManager.createPool("Water Spray", MoteWaterSpray::new);
+    private final static MotePool<MoteRainSplash> splashPool = CollectionManager.createPool("Rain Splash", MoteRainSplash::new);
+    private final static MotePool<MoteFireFly> fireFlyPool = CollectionManager.createPool("Fireflies", MoteFireFly::new);
+
     private Collections() {
 
     }
 
     public static void addWaterRipple(@Nonnull final IBlockReader world, final double x, final double y,
                                       final double z) {
-        if (theRipples.canFit()) {
-            final IParticleMote mote = new MoteWaterRipple(world, x, y, z);
+        if (theRipples.canFit() && CollectionManager.shouldSpawn(x, y, z)) {
+            final IParticleMote mote = ripplePool.acquire().init(world, x, y, z);
             theRipples.add(mote);
         }
     }
@@ -76,7 +81,7 @@ public final class Collections {
     public static boolean addWaterSpray(@Nonnull final IBlockReader world, final double x, final double y,
                                               final double z, final double dX, final double dY, final double dZ) {
         if (theSprays.canFit()) {
-            final IParticleMote mote = new MoteWaterSpray(world, x, y, z, dX, dY, dZ);
+            final IParticleMote mote = sprayPool.acquire().init(world, x, y, z, dX, dY, dZ);
             theSprays.add(mote);
             return true;
         }
@@ -89,15 +94,15 @@ public final class Collections {
 
     public static void addRainSplash(@Nonnull final IBlockReader world, final double x, final double y,
                                               final double z) {
-        if (theSprays.canFit()) {
-            final IParticleMote mote = new MoteRainSplash(world, x, y, z);
+        if (theSprays.canFit() && CollectionManager.shouldSpawn(x, y, z)) {
+            final IParticleMote mote = splashPool.acquire().init(world, x, y, z);
             theSprays.add(mote);
         }
     }
 
     public static void addFireFly(@Nonnull final IBlockReader world, final double x, final double y, final double z) {
-        if (theFireFlies.canFit()) {
-            final IParticleMote mote = new MoteFireFly(world, x, y, z);
+        if (theFireFlies.canFit() && CollectionManager.shouldSpawn(x, y, z)) {
+            final IParticleMote mote = fireFlyPool.acquire().init(world, x, y, z);
             theFireFlies.add(mote);
         }
     }
@@ -40,8 +40,10 @@ public class MoteFireFly extends AnimatedMote {
 
     private boolean doRender;
 
-    public MoteFireFly(@Nonnull final IBlockReader world, final double x, final double y, final double z) {
-        super(GameUtils.getMC().particles.sprites.get(ParticleTypes.FIREWORK.getRegistryName()), world, x, y, z, 0, 0, 0);
+    @Nonnull
+    public MoteFireFly init(@Nonnull final IBlockReader world, final double x, final double y, final double z) {
+        initAnimated(GameUtils.getMC().particles.sprites.get(ParticleTypes.FIREWORK.getRegistryName()), world, x, y, z, 0, 0, 0);
+        this.doRender = false;
 
         this.motionX = RANDOM.nextGaussian() * XZ_MOTION_DELTA;
         this.motionZ = RANDOM.nextGaussian() * XZ_MOTION_DELTA;
@@ -58,11 +60,12 @@ public class MoteFireFly extends AnimatedMote {
 
         setColor(ColorPalette.MC_YELLOW);
         setColorFade(ColorPalette.MC_GREEN);
+        return this;
     }
 
     @Override
-    public void update() {
-        super.update();
+    public void update(final int steps) {
+        super.update(steps);
 
         this.doRender = this.age < this.maxAge / 3 || (this.age + this.maxAge) / 3 % 2 == 0;
     }
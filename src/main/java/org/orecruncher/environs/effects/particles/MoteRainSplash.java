@@ -23,11 +23,14 @@ import net.minecraft.world.IBlockReader;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 
+import javax.annotation.Nonnull;
+
 @OnlyIn(Dist.CLIENT)
 public class MoteRainSplash extends MoteWaterSpray {
 
-	public MoteRainSplash(final IBlockReader world, final double x, final double y, final double z) {
-		super(world, x, y, z, 0, 0, 0);
+	@Nonnull
+	public MoteRainSplash init(final IBlockReader world, final double x, final double y, final double z) {
+		init(world, x, y, z, 0, 0, 0);
 
 		// Setup motion
 		this.motionX = (RANDOM.nextDouble() * 2.0D - 1.0D) * 0.4000000059604645D;
@@ -43,6 +46,7 @@ public class MoteRainSplash extends MoteWaterSpray {
 		this.motionX *= 0.30000001192092896D;
 		this.motionY = RANDOM.nextDouble() * 0.20000000298023224D + 0.10000000149011612D;
 		this.motionZ *= 0.30000001192092896D;
+		return this;
 	}
 
 	@Override
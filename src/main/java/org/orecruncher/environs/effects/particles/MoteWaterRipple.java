@@ -36,15 +36,16 @@ public class MoteWaterRipple extends AgeableMote {
 
 	private static final float TEX_SIZE_HALF = 0.5F;
 
-	protected final float growthRate;
+	protected float growthRate;
 	protected float scale;
 	protected float scaledWidth;
 
 	protected float texU1, texU2;
 	protected float texV1, texV2;
 
-	public MoteWaterRipple(final IBlockReader world, final double x, final double y, final double z) {
-		super(world, x, y, z);
+	@Nonnull
+	public MoteWaterRipple init(final IBlockReader world, final double x, final double y, final double z) {
+		initAgeable(world, x, y, z);
 
 		final RippleStyle style = Config.CLIENT.effects.waterRippleStyle.get();
 
@@ -72,13 +73,14 @@ public class MoteWaterRipple extends AgeableMote {
 		this.texU2 = style.getU2(this.age);
 		this.texV1 = style.getV1(this.age);
 		this.texV2 = style.getV2(this.age);
+		return this;
 	}
 
 	@Override
-	public void update() {
+	public void update(final int steps) {
 		final RippleStyle style = Config.CLIENT.effects.waterRippleStyle.get();
 		if (style.doScaling()) {
-			this.scale += this.growthRate;
+			this.scale += this.growthRate * steps;
 			this.scaledWidth = this.scale * TEX_SIZE_HALF;
 		}
 
@@ -30,7 +30,6 @@ import net.minecraftforge.api.distmarker.OnlyIn;
 import org.orecruncher.lib.biomes.BiomeUtilities;
 import org.orecruncher.lib.gui.Color;
 import org.orecruncher.lib.particles.MotionMote;
-import org.orecruncher.lib.particles.ParticleCollisionResult;
 import org.orecruncher.lib.random.XorShiftRandom;
 
 import javax.annotation.Nonnull;
@@ -44,13 +43,14 @@ public class MoteWaterSpray extends MotionMote {
 
 	protected float scale;
 
-	protected final float texU1, texU2;
-	protected final float texV1, texV2;
+	protected float texU1, texU2;
+	protected float texV1, texV2;
 
-	public MoteWaterSpray(final IBlockReader world, final double x, final double y, final double z, final double dX,
+	@Nonnull
+	public MoteWaterSpray init(final IBlockReader world, final double x, final double y, final double z, final double dX,
 						  final double dY, final double dZ) {
 
-		super(world, x, y, z, dX, dY, dZ);
+		initMotion(world, x, y, z, dX, dY, dZ);
 
 		this.maxAge = (int) (8.0F / (RANDOM.nextFloat() * 0.8F + 0.2F));
 		this.scale = (RANDOM.nextFloat() * 0.5F + 0.5F) * 2.0F * 0.07F;
@@ -62,6 +62,7 @@ public class MoteWaterSpray extends MotionMote {
 		this.texU2 = this.texU1 + 0.5F;
 		this.texV1 = texY * 0.5F;
 		this.texV2 = this.texV1 + 0.5F;
+		return this;
 	}
 
 	@Override
@@ -74,10 +75,10 @@ public class MoteWaterSpray extends MotionMote {
 	}
 
 	@Override
-	public void handleCollision(@Nonnull final ParticleCollisionResult collision) {
+	public void handleCollision() {
 		// Do the drip splash, but don't play the sound.  Sounds funny with waterfall effects
-		ParticleHooks.splashHandler(Fluids.WATER, collision, false);
-		super.handleCollision(collision);
+		ParticleHooks.splashHandler(Fluids.WATER, getCollisionResult(), false);
+		super.handleCollision();
 	}
 
 	@Override
@@ -38,6 +38,7 @@ public class BedrockFogRangeCalculator extends VanillaFogRangeCalculator {
 
     protected final FogResult cached = new FogResult();
     protected double skyLight;
+    protected double lastDensity = 1.0D;
 
     public BedrockFogRangeCalculator() {
         super("BedrockFogRangeCalculator");
@@ -82,6 +83,22 @@ public class BedrockFogRangeCalculator extends VanillaFogRangeCalculator {
         return this.cached;
     }
 
+    @Override
+    public long getInputVersion(@Nonnull final EntityViewRenderEvent.RenderFogEvent event) {
+        // A density of 1 or more has no effect on the vanilla range, and below 0 it is clamped
+        double density = 1.0D;
+        if (!CommonState.getDimensionInfo().isFlatWorld() && WorldUtils.hasVoidParticles(GameUtils.getWorld())) {
+            final PlayerEntity player = GameUtils.getPlayer();
+            final double factor = (MathHelper.lerp(event.getRenderPartialTicks(), player.lastTickPosY, player.getPosY()) + 4.0D) / 32.0D;
+            density = MathHelper.clamp((this.skyLight / 16.0D) + factor, 0.0D, 1.0D);
+        }
+        if (density != this.lastDensity) {
+            this.lastDensity = density;
+            this.version++;
+        }
+        return this.version;
+    }
+
     @Override
     public void tick() {
         this.skyLight = GameUtils.getPlayer().getBrightness();
@@ -20,6 +20,7 @@ package org.orecruncher.environs.fog;
 
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.util.CubicSampler;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.biome.BiomeManager;
@@ -39,7 +40,17 @@ import javax.annotation.Nonnull;
 @OnlyIn(Dist.CLIENT)
 public class BiomeFogRangeCalculator extends VanillaFogRangeCalculator {
 
+    // Camera position is quantized to this fraction of a block when deciding whether the biome survey needs to be
+    // redone.  The survey interpolates over 4 block cells so the difference is not visible.
+    protected static final double QUANTIZE = 8.0D;
+
     protected final FogResult cached = new FogResult();
+    protected ClientWorld lastWorld;
+    protected int lastX;
+    protected int lastY;
+    protected int lastZ;
+    protected double visibility = 1.0D;
+    protected boolean surveyValid;
 
     public BiomeFogRangeCalculator() {
         super("BiomeFogRangeCalculator");
@@ -54,19 +65,24 @@ public class BiomeFogRangeCalculator extends VanillaFogRangeCalculator {
     @Nonnull
     public FogResult calculate(@Nonnull final EntityViewRenderEvent.RenderFogEvent event) {
 
-        final ClientWorld world = GameUtils.getWorld();
-        assert world != null;
+        // The survey is only redone when the camera has moved or the world changed
+        if (!this.surveyValid || checkCameraMoved()) {
+            final ClientWorld world = GameUtils.getWorld();
+            assert world != null;
 
-        final BiomeManager biomemanager = world.getBiomeManager();
-        final Vector3d origin = GameUtils.getMC().gameRenderer.getActiveRenderInfo().getProjectedView().subtract(2.0D, 2.0D, 2.0D).scale(0.25D);
-        final Vector3d visibilitySurvey = CubicSampler.func_240807_a_(origin, (x, y, z) -> {
-            final Biome b = biomemanager.getBiomeAtPosition(x, y, z);
-            final BiomeInfo info = BiomeUtil.getBiomeData(b);
-            return new Vector3d(info.getVisibility(), 0, 0);
-        });
+            final BiomeManager biomemanager = world.getBiomeManager();
+            final Vector3d origin = GameUtils.getMC().gameRenderer.getActiveRenderInfo().getProjectedView().subtract(2.0D, 2.0D, 2.0D).scale(0.25D);
+            final Vector3d visibilitySurvey = CubicSampler.func_240807_a_(origin, (x, y, z) -> {
+                final Biome b = biomemanager.getBiomeAtPosition(x, y, z);
+                final BiomeInfo info = BiomeUtil.getBiomeData(b);
+                return new Vector3d(info.getVisibility(), 0, 0);
+            });
+            this.visibility = visibilitySurvey.getX();
+            this.surveyValid = true;
+        }
 
         // Lower values means less visibility
-        final double visibility = visibilitySurvey.getX();
+        final double visibility = this.visibility;
         final double farPlaneDistance = visibility * event.getFarPlaneDistance();
         final double farPlaneDistanceScaleBiome = 0.1D * (1D - visibility) + FogResult.DEFAULT_PLANE_SCALE * visibility;
 
@@ -75,4 +91,33 @@ public class BiomeFogRangeCalculator extends VanillaFogRangeCalculator {
         return cached;
     }
 
+    @Override
+    public long getInputVersion(@Nonnull final EntityViewRenderEvent.RenderFogEvent event) {
+        if (checkCameraMoved())
+            this.surveyValid = false;
+        return this.version;
+    }
+
+    /**
+     * Checks whether the world or the quantized camera position changed since the last check, bumping the input
+     * version if so.
+     *
+     * @return true if the camera moved or the world changed, false otherwise
+     */
+    protected boolean checkCameraMoved() {
+        final ClientWorld world = GameUtils.getWorld();
+        final Vector3d view = GameUtils.getMC().gameRenderer.getActiveRenderInfo().getProjectedView();
+        final int x = MathHelper.floor(view.x * QUANTIZE);
+        final int y = MathHelper.floor(view.y * QUANTIZE);
+        final int z = MathHelper.floor(view.z * QUANTIZE);
+        if (world != this.lastWorld || x != this.lastX || y != this.lastY || z != this.lastZ) {
+            this.lastWorld = world;
+            this.lastX = x;
+            this.lastY = y;
+            this.lastZ = z;
+            this.version++;
+            return true;
+        }
+        return false;
+    }
 }
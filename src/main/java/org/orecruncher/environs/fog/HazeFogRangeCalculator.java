@@ -42,6 +42,9 @@ public class HazeFogRangeCalculator extends VanillaFogRangeCalculator {
     protected static final float IMPACT_NEAR = 0.95F;
 
     protected final FogResult cached = new FogResult();
+    protected boolean lastInBand;
+    protected double lastEyeY;
+    protected float lastCloudHeight;
 
     public HazeFogRangeCalculator() {
         super("HazeFogRangeCalculator");
@@ -90,4 +93,23 @@ public class HazeFogRangeCalculator extends VanillaFogRangeCalculator {
         return this.cached;
     }
 
+    @Override
+    public long getInputVersion(@Nonnull final EntityViewRenderEvent.RenderFogEvent event) {
+        final DimensionInfo di = CommonState.getDimensionInfo();
+        boolean inBand = false;
+        double eyeY = 0;
+        float cloudHeight = 0;
+        if (di.hasHaze()) {
+            cloudHeight = di.getCloudHeight();
+            eyeY = GameUtils.getPlayer().getEyePosition((float) event.getRenderPartialTicks()).y;
+            inBand = eyeY > cloudHeight - BAND_OFFSETS && eyeY < cloudHeight + BAND_OFFSETS + BAND_CORE_SIZE;
+        }
+        if (inBand != this.lastInBand || (inBand && (eyeY != this.lastEyeY || cloudHeight != this.lastCloudHeight))) {
+            this.lastInBand = inBand;
+            this.lastEyeY = eyeY;
+            this.lastCloudHeight = cloudHeight;
+            this.version++;
+        }
+        return this.version;
+    }
 }
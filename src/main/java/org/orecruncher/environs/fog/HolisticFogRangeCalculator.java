@@ -27,6 +27,7 @@ import org.orecruncher.lib.collections.ObjectArray;
 import org.orecruncher.lib.logging.IModLog;
 
 import javax.annotation.Nonnull;
+import java.util.Arrays;
 
 /**
  * Consults various different fog calculators and aggregates the results into a
@@ -40,8 +41,18 @@ public class HolisticFogRangeCalculator implements IFogRangeCalculator {
     protected final ObjectArray<IFogRangeCalculator> calculators = new ObjectArray<>(8);
     protected final FogResult cached = new FogResult();
 
+    // Input versions reported by each calculator for the last event.  The combined result is reused as long as
+    // none of them change.
+    protected long[] versions = new long[8];
+    protected float farPlaneDistance = -1F;
+    protected int reused;
+    protected int computed;
+
     public void add(@Nonnull final IFogRangeCalculator calc) {
         this.calculators.add(calc);
+        if (this.versions.length < this.calculators.size())
+            this.versions = Arrays.copyOf(this.versions, this.calculators.size());
+        this.versions[this.calculators.size() - 1] = NO_VERSION;
     }
 
     @Override
@@ -59,6 +70,12 @@ public class HolisticFogRangeCalculator implements IFogRangeCalculator {
     @Nonnull
     public FogResult calculate(@Nonnull final EntityViewRenderEvent.RenderFogEvent event) {
 
+        if (!inputsChanged(event)) {
+            this.reused++;
+            return this.cached;
+        }
+
+        this.computed++;
         this.cached.set(event);
         float start = this.cached.getStart();
         float end = this.cached.getEnd();
@@ -79,6 +96,19 @@ public class HolisticFogRangeCalculator implements IFogRangeCalculator {
         return this.cached;
     }
 
+    private boolean inputsChanged(@Nonnull final EntityViewRenderEvent.RenderFogEvent event) {
+        boolean changed = event.getFarPlaneDistance() != this.farPlaneDistance;
+        this.farPlaneDistance = event.getFarPlaneDistance();
+        for (int i = 0; i < this.calculators.size(); i++) {
+            final IFogRangeCalculator calc = this.calculators.get(i);
+            // Disabled calculators report a version that cannot be produced by a live one
+            final long version = calc.enabled() ? calc.getInputVersion(event) : Long.MIN_VALUE;
+            changed |= version == NO_VERSION || version != this.versions[i];
+            this.versions[i] = version;
+        }
+        return changed;
+    }
+
     @Override
     public void tick() {
         this.calculators.forEach(IFogRangeCalculator::tick);
@@ -87,6 +117,6 @@ public class HolisticFogRangeCalculator implements IFogRangeCalculator {
     @Override
     @Nonnull
     public String toString() {
-        return this.cached.toString();
+        return String.format("%s (%d reused, %d computed)", this.cached, this.reused, this.computed);
     }
 }
@@ -27,6 +27,11 @@ import javax.annotation.Nonnull;
 @OnlyIn(Dist.CLIENT)
 public interface IFogRangeCalculator {
 
+    /**
+     * Input version reported by calculators that cannot tell when their inputs change.
+     */
+    long NO_VERSION = -1;
+
     /**
      * The name of the fog calculator for logging purposes.
      *
@@ -51,6 +56,18 @@ public interface IFogRangeCalculator {
     @Nonnull
     FogResult calculate(@Nonnull final EntityViewRenderEvent.RenderFogEvent event);
 
+    /**
+     * Called during the render pass, before calculate(), to obtain a version number for the inputs the calculator
+     * uses.  If the version has not changed since the prior event, and the far plane distance is the same, the
+     * calculator would produce the same result as before.
+     *
+     * @param event The event that is being fired
+     * @return Version of the calculator inputs, or NO_VERSION if it is not known
+     */
+    default long getInputVersion(@Nonnull final EntityViewRenderEvent.RenderFogEvent event) {
+        return NO_VERSION;
+    }
+
     /**
      * Called once every client side tick. Up to the calculator to figure out what
      * to do with the time, if anything.
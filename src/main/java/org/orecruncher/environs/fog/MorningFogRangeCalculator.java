@@ -61,6 +61,8 @@ public class MorningFogRangeCalculator extends VanillaFogRangeCalculator {
     protected final FogResult cache = new FogResult();
     protected int fogDay = -1;
     protected FogType type = FogType.NORMAL;
+    protected FogType lastType = FogType.NORMAL;
+    protected float lastAngle = -1F;
 
     public MorningFogRangeCalculator() {
         super("MorningFogRangeCalculator");
@@ -90,6 +92,23 @@ public class MorningFogRangeCalculator extends VanillaFogRangeCalculator {
         return this.cache;
     }
 
+    @Override
+    public long getInputVersion(@Nonnull final EntityViewRenderEvent.RenderFogEvent event) {
+        // Outside of the fog window the celestial angle has no effect on the result
+        float angle = -1F;
+        if (this.type != FogType.NONE) {
+            final float ca = GameUtils.getWorld().func_242415_f((float) event.getRenderPartialTicks());
+            if (ca >= this.type.getStart() && ca <= this.type.getEnd())
+                angle = ca;
+        }
+        if (angle != this.lastAngle || this.type != this.lastType) {
+            this.lastAngle = angle;
+            this.lastType = this.type;
+            this.version++;
+        }
+        return this.version;
+    }
+
     @Override
     public void tick() {
         // Determine if fog is going to be done this Minecraft day
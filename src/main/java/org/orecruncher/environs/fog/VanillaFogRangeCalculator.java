@@ -33,6 +33,9 @@ public class VanillaFogRangeCalculator implements IFogRangeCalculator {
 
     private final String name;
 
+    // Bumped by subclasses when the inputs to their calculation change
+    protected long version;
+
     protected VanillaFogRangeCalculator(@Nonnull final String name) {
         this.name = name;
     }
@@ -52,6 +55,11 @@ public class VanillaFogRangeCalculator implements IFogRangeCalculator {
         return new FogResult(event);
     }
 
+    @Override
+    public long getInputVersion(@Nonnull final EntityViewRenderEvent.RenderFogEvent event) {
+        return this.version;
+    }
+
     @Override
     public void tick() {
 
@@ -38,6 +38,7 @@ public class WeatherFogRangeCalculator extends VanillaFogRangeCalculator {
     protected static final float END_IMPACT = 0.4F;
 
     protected final FogResult cache = new FogResult();
+    protected float lastRainStr;
 
     public WeatherFogRangeCalculator() {
         super("WeatherFogRangeCalculator");
@@ -63,4 +64,14 @@ public class WeatherFogRangeCalculator extends VanillaFogRangeCalculator {
 
         return this.cache;
     }
+
+    @Override
+    public long getInputVersion(@Nonnull final EntityViewRenderEvent.RenderFogEvent event) {
+        final float rainStr = WorldUtils.getRainStrength(GameUtils.getWorld(), (float) event.getRenderPartialTicks());
+        if (rainStr != this.lastRainStr) {
+            this.lastRainStr = rainStr;
+            this.version++;
+        }
+        return this.version;
+    }
 }
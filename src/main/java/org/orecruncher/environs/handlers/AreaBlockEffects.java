@@ -79,7 +79,7 @@ class AreaBlockEffects extends HandlerBase {
     @SubscribeEvent
     public void onBlockUpdate(@Nonnull final BlockUpdateEvent event) {
         final long start = System.nanoTime();
-        event.getExpandedPositions().forEach(this.alwaysOn::onBlockUpdate);
+        event.forEachExpandedPosition(this.alwaysOn::onBlockUpdate);
         this.nanos += System.nanoTime() - start;
     }
 }
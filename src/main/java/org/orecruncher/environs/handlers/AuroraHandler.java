@@ -49,6 +49,7 @@ public final class AuroraHandler extends HandlerBase {
 	private int dimensionId;
 
 	public AuroraHandler() {
+		// The tick is trivial, and the band animation interpolates over a single tick so it must not be skipped
 		super("Aurora");
 	}
 
@@ -28,7 +28,6 @@ import org.orecruncher.environs.config.Config;
 import org.orecruncher.environs.library.BiomeInfo;
 import org.orecruncher.environs.library.BiomeLibrary;
 import org.orecruncher.environs.scanner.BiomeScanner;
-import org.orecruncher.lib.TickCounter;
 import org.orecruncher.lib.collections.ObjectArray;
 import org.orecruncher.lib.events.DiagnosticEvent;
 import org.orecruncher.sndctrl.api.acoustics.IAcoustic;
@@ -54,9 +53,10 @@ public class BiomeSoundEffects extends HandlerBase {
 
     private final BiomeScanner biomes = new BiomeScanner();
     private final ObjectArray<BackgroundAcousticEmitter> emitters = new ObjectArray<>(8);
+    private int scanTicks;
 
     BiomeSoundEffects() {
-        super("Biome Sounds");
+        super("Biome Sounds", 2, CostClass.DEFERRABLE);
     }
 
     @Override
@@ -84,7 +84,9 @@ public class BiomeSoundEffects extends HandlerBase {
     @Override
     public void process(@Nonnull final PlayerEntity player) {
         this.emitters.forEach(BackgroundAcousticEmitter::tick);
-        if ((TickCounter.getTickCount() % SCAN_INTERVAL) == 0) {
+        this.scanTicks += getElapsedTicks();
+        if (this.scanTicks >= SCAN_INTERVAL) {
+            this.scanTicks = 0;
             this.biomes.tick();
             handleBiomeSounds(player);
         }
@@ -93,6 +95,7 @@ public class BiomeSoundEffects extends HandlerBase {
     @Override
     public void onConnect() {
         clearSounds();
+        this.scanTicks = SCAN_INTERVAL;
     }
 
     @Override
@@ -18,12 +18,7 @@
 
 package org.orecruncher.environs.handlers;
 
-import com.google.common.collect.Streams;
-import net.minecraft.entity.Entity;
-import net.minecraft.entity.merchant.villager.VillagerEntity;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.tileentity.BellTileEntity;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.StringUtils;
 import net.minecraft.util.text.TextFormatting;
@@ -46,7 +41,6 @@ import org.orecruncher.lib.seasons.Season;
 
 import javax.annotation.Nonnull;
 import java.util.List;
-import java.util.Optional;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -107,21 +101,8 @@ class CommonStateHandler extends HandlerBase {
         if (currentTick % 20 == 0) {
             // Only for surface worlds.  Other types of worlds are interpreted as not having villages.
             if (world.getDimensionType().isNatural()) {
-                // Look for a bell within range of the player
-                final Optional<TileEntity> bell = world.loadedTileEntityList.stream()
-                        .filter(te -> te instanceof BellTileEntity)
-                        .filter(te -> te.getPos().distanceSq(data.playerEyePosition.x, data.playerEyePosition.y, data.playerEyePosition.z, true) <= VILLAGE_RANGE)
-                        .findAny();
-
-                // If a bell is found, look for a villager within range
-                data.isInVillage = bell.isPresent();
-                if (data.isInVillage) {
-                    final Optional<Entity> entity = Streams.stream(GameUtils.getWorld().getAllEntities())
-                            .filter(e -> e instanceof VillagerEntity)
-                            .filter(e -> e.getDistanceSq(data.playerEyePosition.x, data.playerEyePosition.y, data.playerEyePosition.z) <= VILLAGE_RANGE)
-                            .findAny();
-                    data.isInVillage = entity.isPresent();
-                }
+                // Look for a bell and a villager within range of the player
+                data.isInVillage = VillageIndex.isInVillage(world, data.playerEyePosition, VILLAGE_RANGE);
             } else {
                 data.isInVillage = false;
             }
@@ -134,12 +115,14 @@ class CommonStateHandler extends HandlerBase {
     @Override
     public void onDisconnect() {
         CommonState.reset();
+        ConditionEvaluator.INSTANCE.reset();
     }
 
     @SubscribeEvent(priority = EventPriority.HIGH)
     public void diagnostics(@Nonnull final DiagnosticEvent event) {
         if (Config.CLIENT.logging.enableLogging.get()) {
             event.addLeft(TextFormatting.YELLOW + CommonState.getData().clock.getFormattedTime());
+            event.addLeft(TextFormatting.YELLOW + ConditionEvaluator.INSTANCE.toString());
 
             for (final String s : scripts) {
                 final String result = ConditionEvaluator.INSTANCE.eval(s).toString();
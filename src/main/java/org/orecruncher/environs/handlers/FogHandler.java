@@ -44,7 +44,8 @@ public class FogHandler extends HandlerBase {
     protected HolisticFogRangeCalculator fogRange = new HolisticFogRangeCalculator();
 
     public FogHandler() {
-        super("Fog Handler");
+        // Ticking only refreshes inputs that change slowly; the fog range itself is calculated during render
+        super("Fog Handler", 2, CostClass.NORMAL);
     }
 
     public static boolean doFog() {
@@ -23,6 +23,7 @@ import net.minecraft.entity.player.PlayerEntity;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.common.MinecraftForge;
+import org.orecruncher.lib.math.PercentileTimer;
 import org.orecruncher.lib.math.TimerEMA;
 import org.orecruncher.lib.random.XorShiftRandom;
 
@@ -34,12 +35,37 @@ public class HandlerBase {
 
     protected static final Random RANDOM = XorShiftRandom.current();
 
+    /**
+     * Cost class of a handler.  Determines whether the Manager can push the handler's work to a later tick when
+     * the handlers that ran before it have used up the tick budget.
+     */
+    public enum CostClass {
+        // Always processed when scheduled
+        NORMAL,
+        // Can be deferred when the tick is over budget
+        DEFERRABLE
+    }
+
     private final String handlerName;
     private final TimerEMA timer;
+    private final PercentileTimer percentiles;
+    private final int tickInterval;
+    private final CostClass costClass;
+    private int deferredTicks;
+    private int deferrals;
+    private long lastProcessed;
+    private int elapsedTicks = 1;
 
     HandlerBase(@Nonnull final String name) {
+        this(name, 1, CostClass.NORMAL);
+    }
+
+    HandlerBase(@Nonnull final String name, final int tickInterval, @Nonnull final CostClass costClass) {
         this.handlerName = name;
         this.timer = new TimerEMA(this.handlerName);
+        this.percentiles = new PercentileTimer(this.handlerName);
+        this.tickInterval = tickInterval;
+        this.costClass = costClass;
     }
 
     @Nonnull
@@ -47,6 +73,45 @@ public class HandlerBase {
         return this.timer;
     }
 
+    @Nonnull
+    public PercentileTimer getPercentiles() {
+        return this.percentiles;
+    }
+
+    /**
+     * Preferred number of ticks between invocations of the handler.  The Manager staggers handlers that share an
+     * interval so they do not land on the same tick.
+     *
+     * @return Number of ticks between invocations
+     */
+    public final int getTickInterval() {
+        return this.tickInterval;
+    }
+
+    @Nonnull
+    public final CostClass getCostClass() {
+        return this.costClass;
+    }
+
+    /**
+     * Number of ticks since the handler was last processed.  Handlers that run at an interval, or that have been
+     * deferred, use this to advance state that progresses every tick.  Only valid during process().
+     *
+     * @return Number of ticks since the last invocation
+     */
+    protected final int getElapsedTicks() {
+        return this.elapsedTicks;
+    }
+
+    /**
+     * Number of times the handler has been deferred because the tick was over budget.
+     *
+     * @return Number of deferrals since connect
+     */
+    public final int getDeferrals() {
+        return this.deferrals;
+    }
+
     /**
      * Used to obtain the handler name for logging purposes.
      *
@@ -99,7 +164,34 @@ public class HandlerBase {
         this.timer.update(nanos);
     }
 
+    final void updatePercentiles(final long nanos) {
+        this.percentiles.update(nanos);
+    }
+
+    final int getDeferredTicks() {
+        return this.deferredTicks;
+    }
+
+    final void defer() {
+        this.deferredTicks++;
+        this.deferrals++;
+    }
+
+    final void clearDeferred() {
+        this.deferredTicks = 0;
+    }
+
+    final void markProcessed(final long tick) {
+        this.elapsedTicks = this.lastProcessed == 0 ? 1 : (int) (tick - this.lastProcessed);
+        this.lastProcessed = tick;
+    }
+
     final void connect0() {
+        this.deferredTicks = 0;
+        this.deferrals = 0;
+        this.lastProcessed = 0;
+        this.elapsedTicks = 1;
+        this.percentiles.clear();
         onConnect();
         MinecraftForge.EVENT_BUS.register(this);
     }
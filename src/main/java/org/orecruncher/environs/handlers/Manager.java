@@ -30,7 +30,6 @@ import net.minecraftforge.fml.common.Mod;
 import org.orecruncher.environs.config.Config;
 import org.orecruncher.environs.Environs;
 import org.orecruncher.lib.GameUtils;
-import org.orecruncher.lib.TickCounter;
 import org.orecruncher.lib.collections.ObjectArray;
 import org.orecruncher.lib.events.DiagnosticEvent;
 import org.orecruncher.lib.logging.IModLog;
@@ -42,6 +41,9 @@ public class Manager {
 
     private static final IModLog LOGGER = Environs.LOGGER.createChild(Manager.class);
 
+    // Number of consecutive ticks a deferrable handler can be pushed back before it is run regardless of budget
+    private static final int MAX_DEFERRED_TICKS = 4;
+
     private static final Manager instance_ = new Manager();
     private static boolean isConnected = false;
 
@@ -51,6 +53,9 @@ public class Manager {
 
     private final ObjectArray<HandlerBase> effectHandlers = new ObjectArray<>();
 
+    // Only counts the ticks where handlers are run so time spent paused is not seen as elapsed by the handlers
+    private long ticks;
+
     private Manager() {
         init();
     }
@@ -115,24 +120,53 @@ public class Manager {
         final IProfiler profiler = GameUtils.getMC().getProfiler();
         profiler.startSection("Environs Client Tick");
 
-        final long tick = TickCounter.getTickCount();
+        final long tick = ++this.ticks;
+        final long budget = Config.CLIENT.effects.handlerBudget.get() * 1000L;
+        long spent = 0;
 
-        for (final HandlerBase handler : this.effectHandlers) {
+        for (int i = 0; i < this.effectHandlers.size(); i++) {
+            final HandlerBase handler = this.effectHandlers.get(i);
             profiler.startSection(handler.getHandlerName());
             final long mark = System.nanoTime();
-            if (handler.doTick(tick))
+            final boolean processed = isScheduled(handler, i, tick, spent > budget) && handler.doTick(tick);
+            if (processed) {
+                handler.markProcessed(tick);
                 handler.process(getPlayer());
-            handler.updateTimer(System.nanoTime() - mark);
+            }
+            final long elapsed = System.nanoTime() - mark;
+            handler.updateTimer(elapsed);
+            if (processed)
+                handler.updatePercentiles(elapsed);
+            spent += elapsed;
             profiler.endSection();
         }
 
         profiler.endSection();
     }
 
+    private static boolean isScheduled(@Nonnull final HandlerBase handler, final int slot, final long tick, final boolean overBudget) {
+        // A deferred handler runs on the next tick rather than waiting out another interval
+        final int interval = handler.getTickInterval();
+        if (handler.getDeferredTicks() == 0 && interval > 1 && (tick + slot) % interval != 0)
+            return false;
+
+        if (overBudget && handler.getCostClass() == HandlerBase.CostClass.DEFERRABLE && handler.getDeferredTicks() < MAX_DEFERRED_TICKS) {
+            handler.defer();
+            return false;
+        }
+
+        handler.clearDeferred();
+        return true;
+    }
+
     @SubscribeEvent
     public static void diagnosticEvent(@Nonnull final DiagnosticEvent event) {
-        if (Config.CLIENT.logging.enableLogging.get())
-            instance().effectHandlers.forEach(h -> event.addTimer(h.getTimer()));
+        if (Config.CLIENT.logging.enableLogging.get()) {
+            for (final HandlerBase h : instance().effectHandlers) {
+                event.addTimer(h.getTimer());
+                event.getLeft().add(String.format("%s (%d deferred)", h.getPercentiles(), h.getDeferrals()));
+            }
+        }
     }
 
     @SubscribeEvent(priority = EventPriority.HIGH)
@@ -18,7 +18,9 @@
 
 package org.orecruncher.environs.handlers;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.api.distmarker.Dist;
@@ -26,6 +28,7 @@ import net.minecraftforge.api.distmarker.OnlyIn;
 import org.orecruncher.environs.config.Config;
 import org.orecruncher.environs.effects.emitters.ParticleEmitter;
 import org.orecruncher.lib.BlockPosUtil;
+import org.orecruncher.lib.collections.ObjectArray;
 
 import javax.annotation.Nonnull;
 import java.util.function.Predicate;
@@ -33,10 +36,8 @@ import java.util.function.Predicate;
 @OnlyIn(Dist.CLIENT)
 public class ParticleSystems extends HandlerBase {
 
-    private static final Predicate<ParticleEmitter> STANDARD = system -> {
-        system.tick();
-        return !system.isAlive();
-    };
+    private static final int SECTION_SHIFT = 4;
+    private static final int SECTION_SIZE = 1 << SECTION_SHIFT;
 
     ParticleSystems() {
         super("Particle Systems");
@@ -45,7 +46,32 @@ public class ParticleSystems extends HandlerBase {
     private static ParticleSystems _instance = null;
 
     private final Long2ObjectOpenHashMap<ParticleEmitter> systems = new Long2ObjectOpenHashMap<>(512);
+    // Emitters bucketed by chunk section so range checks can accept or reject a whole section at once
+    private final Long2ObjectOpenHashMap<ObjectArray<ParticleEmitter>> sections = new Long2ObjectOpenHashMap<>(64);
     private BlockPos lastPos = BlockPos.ZERO;
+    private BlockPos min = BlockPos.ZERO;
+    private BlockPos max = BlockPos.ZERO;
+
+    private final Predicate<ParticleEmitter> standard = system -> {
+        system.tick();
+        return removeIfDead(system);
+    };
+
+    private final Predicate<ParticleEmitter> ranged = system -> {
+        if (BlockPosUtil.notContains(system.getPos(), this.min, this.max)) {
+            system.setExpired();
+        } else {
+            system.tick();
+        }
+        return removeIfDead(system);
+    };
+
+    private boolean removeIfDead(@Nonnull final ParticleEmitter system) {
+        if (system.isAlive())
+            return false;
+        this.systems.remove(system.getPos().toLong());
+        return true;
+    }
 
     @Override
     public boolean doTick(final long tick) {
@@ -58,35 +84,75 @@ public class ParticleSystems extends HandlerBase {
         final boolean sittingStill = this.lastPos.equals(current);
         this.lastPos = current;
 
-        Predicate<ParticleEmitter> pred = STANDARD;
+        final ObjectIterator<Long2ObjectMap.Entry<ObjectArray<ParticleEmitter>>> itr = this.sections.long2ObjectEntrySet().fastIterator();
 
-        if (!sittingStill) {
-            final double range = Config.CLIENT.effects.get_effectRange();
-            final BlockPos min = new BlockPos(current.getX() - range, current.getY() - range, current.getZ() - range);
-            final BlockPos max = new BlockPos(current.getX() + range, current.getY() + range, current.getZ() + range);
+        if (sittingStill) {
+            while (itr.hasNext()) {
+                final ObjectArray<ParticleEmitter> bucket = itr.next().getValue();
+                bucket.removeIf(this.standard);
+                if (bucket.isEmpty())
+                    itr.remove();
+            }
+            return;
+        }
 
-            pred = system -> {
-                if (BlockPosUtil.notContains(system.getPos(), min, max)) {
+        final int range = Config.CLIENT.effects.get_effectRange();
+        this.min = new BlockPos(current.getX() - range, current.getY() - range, current.getZ() - range);
+        this.max = new BlockPos(current.getX() + range, current.getY() + range, current.getZ() + range);
+
+        while (itr.hasNext()) {
+            final Long2ObjectMap.Entry<ObjectArray<ParticleEmitter>> entry = itr.next();
+            final ObjectArray<ParticleEmitter> bucket = entry.getValue();
+            final long key = entry.getLongKey();
+            final int x = BlockPos.unpackX(key) << SECTION_SHIFT;
+            final int y = BlockPos.unpackY(key) << SECTION_SHIFT;
+            final int z = BlockPos.unpackZ(key) << SECTION_SHIFT;
+
+            if (outside(x, y, z)) {
+                // Whole section is out of range so everything in it goes
+                for (int i = 0; i < bucket.size(); i++) {
+                    final ParticleEmitter system = bucket.get(i);
                     system.setExpired();
-                } else {
-                    system.tick();
+                    this.systems.remove(system.getPos().toLong());
                 }
-                return !system.isAlive();
-            };
+                itr.remove();
+                continue;
+            }
+
+            // If the section is completely in range there is no need to check each emitter
+            bucket.removeIf(inside(x, y, z) ? this.standard : this.ranged);
+            if (bucket.isEmpty())
+                itr.remove();
         }
+    }
+
+    private boolean inside(final int x, final int y, final int z) {
+        return x >= this.min.getX() && x + SECTION_SIZE - 1 <= this.max.getX()
+                && y >= this.min.getY() && y + SECTION_SIZE - 1 <= this.max.getY()
+                && z >= this.min.getZ() && z + SECTION_SIZE - 1 <= this.max.getZ();
+    }
+
+    private boolean outside(final int x, final int y, final int z) {
+        return x + SECTION_SIZE - 1 < this.min.getX() || x > this.max.getX()
+                || y + SECTION_SIZE - 1 < this.min.getY() || y > this.max.getY()
+                || z + SECTION_SIZE - 1 < this.min.getZ() || z > this.max.getZ();
+    }
 
-        this.systems.values().removeIf(pred);
+    private static long sectionKey(@Nonnull final BlockPos pos) {
+        return BlockPos.pack(pos.getX() >> SECTION_SHIFT, pos.getY() >> SECTION_SHIFT, pos.getZ() >> SECTION_SHIFT);
     }
 
     @Override
     public void onConnect() {
         _instance = this;
         this.systems.clear();
+        this.sections.clear();
     }
 
     @Override
     public void onDisconnect() {
         this.systems.clear();
+        this.sections.clear();
         _instance = null;
     }
 
@@ -97,7 +163,16 @@ public class ParticleSystems extends HandlerBase {
     }
 
     public static void add(@Nonnull final ParticleEmitter system) {
-        _instance.systems.put(system.getPos().toLong(), system);
+        final ParticleEmitter old = _instance.systems.put(system.getPos().toLong(), system);
+        final long key = sectionKey(system.getPos());
+        ObjectArray<ParticleEmitter> bucket = _instance.sections.get(key);
+        if (bucket == null) {
+            bucket = new ObjectArray<>(8);
+            _instance.sections.put(key, bucket);
+        } else if (old != null) {
+            bucket.remove(old);
+        }
+        bucket.add(system);
     }
 
 }
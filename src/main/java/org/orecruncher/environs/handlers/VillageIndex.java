@@ -0,0 +1,203 @@
+/*
+ *  Dynamic Surroundings
+ *  Copyright (C) 2020  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.environs.handlers;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.block.Blocks;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.merchant.villager.VillagerEntity;
+import net.minecraft.tileentity.BellTileEntity;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.entity.EntityLeaveWorldEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.orecruncher.environs.Environs;
+import org.orecruncher.environs.config.Config;
+import org.orecruncher.lib.collections.ObjectArray;
+import org.orecruncher.lib.events.BlockUpdateEvent;
+import org.orecruncher.lib.events.DiagnosticEvent;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Tracks the bells and villagers in the client world so that village detection does not have to sweep the loaded
+ * tile entity and entity lists.  Bells are picked up when the tile entities of a newly loaded chunk become
+ * available and are maintained by block updates; villagers are tracked as they join and leave the world.
+ */
+@Mod.EventBusSubscriber(modid = Environs.MOD_ID, value = Dist.CLIENT, bus = Mod.EventBusSubscriber.Bus.FORGE)
+@OnlyIn(Dist.CLIENT)
+final class VillageIndex {
+    private VillageIndex() {
+
+    }
+
+    private static final LongOpenHashSet bells = new LongOpenHashSet();
+    private static final LongOpenHashSet pendingChunks = new LongOpenHashSet();
+    private static final ObjectArray<VillagerEntity> villagers = new ObjectArray<>();
+    private static final BlockPos.Mutable mutable = new BlockPos.Mutable();
+    @Nullable
+    private static World indexed;
+
+    /**
+     * Determines if there is a bell and a villager within range of the specified point.
+     *
+     * @param world   The world being checked
+     * @param point   The point of reference
+     * @param rangeSq Distance, squared, that the bell and villager must be within
+     * @return true if both a bell and a villager are within range, false otherwise
+     */
+    static boolean isInVillage(@Nonnull final World world, @Nonnull final Vector3d point, final double rangeSq) {
+        if (world != indexed)
+            rebuild(world);
+        else if (pendingChunks.size() > 0)
+            processPending(world);
+
+        return isBellInRange(point, rangeSq) && isVillagerInRange(point, rangeSq);
+    }
+
+    private static boolean isBellInRange(@Nonnull final Vector3d point, final double rangeSq) {
+        final LongIterator itr = bells.iterator();
+        while (itr.hasNext()) {
+            final long packed = itr.nextLong();
+            final double dX = BlockPos.unpackX(packed) + 0.5D - point.x;
+            final double dY = BlockPos.unpackY(packed) + 0.5D - point.y;
+            final double dZ = BlockPos.unpackZ(packed) + 0.5D - point.z;
+            if (dX * dX + dY * dY + dZ * dZ <= rangeSq)
+                return true;
+        }
+        return false;
+    }
+
+    private static boolean isVillagerInRange(@Nonnull final Vector3d point, final double rangeSq) {
+        for (int i = 0; i < villagers.size(); i++) {
+            if (villagers.get(i).getDistanceSq(point.x, point.y, point.z) <= rangeSq)
+                return true;
+        }
+        return false;
+    }
+
+    private static void rebuild(@Nonnull final World world) {
+        clear();
+        indexed = world;
+        for (final TileEntity te : world.loadedTileEntityList)
+            if (te instanceof BellTileEntity)
+                bells.add(te.getPos().toLong());
+        if (world instanceof ClientWorld) {
+            for (final Entity e : ((ClientWorld) world).getAllEntities())
+                if (e instanceof VillagerEntity)
+                    villagers.add((VillagerEntity) e);
+        }
+    }
+
+    private static void processPending(@Nonnull final World world) {
+        final LongIterator itr = pendingChunks.iterator();
+        while (itr.hasNext()) {
+            final long packed = itr.nextLong();
+            final Chunk chunk = world.getChunkProvider().getChunk(ChunkPos.getX(packed), ChunkPos.getZ(packed), false);
+            if (chunk != null) {
+                for (final TileEntity te : chunk.getTileEntityMap().values())
+                    if (te instanceof BellTileEntity)
+                        bells.add(te.getPos().toLong());
+            }
+        }
+        pendingChunks.clear();
+    }
+
+    private static void clear() {
+        bells.clear();
+        pendingChunks.clear();
+        villagers.clear();
+        indexed = null;
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(@Nonnull final ChunkEvent.Load event) {
+        // Tile entities for a chunk are filled in after the load event fires so the scan is deferred
+        if (event.getWorld() == indexed)
+            pendingChunks.add(event.getChunk().getPos().asLong());
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(@Nonnull final ChunkEvent.Unload event) {
+        if (event.getWorld() == indexed) {
+            final ChunkPos pos = event.getChunk().getPos();
+            pendingChunks.remove(pos.asLong());
+            final LongIterator itr = bells.iterator();
+            while (itr.hasNext()) {
+                final long packed = itr.nextLong();
+                if ((BlockPos.unpackX(packed) >> 4) == pos.x && (BlockPos.unpackZ(packed) >> 4) == pos.z)
+                    itr.remove();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onBlockUpdate(@Nonnull final BlockUpdateEvent event) {
+        final World world = indexed;
+        if (world == null)
+            return;
+        final LongIterator itr = event.getPositions().iterator();
+        while (itr.hasNext()) {
+            final long packed = itr.nextLong();
+            mutable.setPos(BlockPos.unpackX(packed), BlockPos.unpackY(packed), BlockPos.unpackZ(packed));
+            if (world.getBlockState(mutable).getBlock() == Blocks.BELL)
+                bells.add(packed);
+            else
+                bells.remove(packed);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityJoin(@Nonnull final EntityJoinWorldEvent event) {
+        if (event.getWorld() == indexed && event.getEntity() instanceof VillagerEntity)
+            villagers.add((VillagerEntity) event.getEntity());
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(@Nonnull final EntityLeaveWorldEvent event) {
+        if (event.getWorld() == indexed && event.getEntity() instanceof VillagerEntity)
+            villagers.remove(event.getEntity());
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(@Nonnull final WorldEvent.Unload event) {
+        if (event.getWorld() == indexed)
+            clear();
+    }
+
+    @SubscribeEvent
+    public static void onDiagnostics(@Nonnull final DiagnosticEvent event) {
+        if (Config.CLIENT.logging.enableLogging.get() && indexed != null)
+            event.getLeft().add(TextFormatting.YELLOW + String.format("Village Index: %d bells, %d villagers", bells.size(), villagers.size()));
+    }
+}
@@ -21,11 +21,18 @@ package org.orecruncher.environs.handlers.scripts;
 import net.minecraft.util.StringUtils;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.orecruncher.lib.collections.ObjectArray;
 import org.orecruncher.lib.scripting.ExecutionContext;
+import org.orecruncher.lib.scripting.VariableSet;
 import org.orecruncher.lib.scripting.sets.*;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @OnlyIn(Dist.CLIENT)
 public final class ConditionEvaluator {
@@ -33,6 +40,12 @@ public final class ConditionEvaluator {
     public static final ConditionEvaluator INSTANCE = new ConditionEvaluator();
 
     private final ExecutionContext context = new ExecutionContext("Conditions");
+    private final Object2ObjectOpenHashMap<String, CachedResult> cache = new Object2ObjectOpenHashMap<>();
+    private final Pattern dependencyPattern;
+
+    private long hits;
+    private long misses;
+    private long invalidations;
 
     private ConditionEvaluator() {
         this.context.add(new BiomeVariables());
@@ -42,10 +55,32 @@ public final class ConditionEvaluator {
         this.context.add(new WeatherVariables());
         this.context.add(new StateVariables());
         this.context.add(new SeasonVariables());
+
+        // Matches references to a variable set, and optionally the member being accessed.  A bare reference to a set
+        // is treated as a dependency on the set as a whole.
+        final String names = this.context.getVariableSets().stream()
+                .map(v -> Pattern.quote(v.getSetName()))
+                .collect(Collectors.joining("|"));
+        this.dependencyPattern = Pattern.compile("\\b(" + names + ")\\b(?:\\s*\\.\\s*([A-Za-z_$][\\w$]*))?");
     }
 
     public void tick() {
         this.context.update();
+        this.cache.values().removeIf(r -> {
+            if (r.isStale()) {
+                this.invalidations++;
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Discards all cached results.  Should be called when the script environment changes in a way that cannot be
+     * detected through the variable sets, such as a config reload.
+     */
+    public void reset() {
+        this.cache.clear();
     }
 
     public boolean check(@Nonnull final String conditions) {
@@ -56,7 +91,73 @@ public final class ConditionEvaluator {
     public Object eval(@Nonnull final String conditions) {
         if (StringUtils.isNullOrEmpty(conditions))
             return true;
+
+        CachedResult cached = this.cache.get(conditions);
+        if (cached != null) {
+            this.hits++;
+            return cached.value;
+        }
+
+        this.misses++;
         final Optional<Object> result = this.context.eval(conditions);
-        return result.orElse(false);
+        cached = new CachedResult(result.orElse(false), getDependencies(conditions));
+        this.cache.put(conditions, cached);
+        return cached.value;
+    }
+
+    @Nonnull
+    private Dependency[] getDependencies(@Nonnull final String conditions) {
+        final ObjectArray<Dependency> deps = new ObjectArray<>();
+        final Matcher matcher = this.dependencyPattern.matcher(conditions);
+        while (matcher.find()) {
+            final VariableSet<?> set = this.context.getVariableSet(matcher.group(1));
+            if (set != null)
+                deps.add(new Dependency(set, matcher.group(2)));
+        }
+        return deps.toArray(new Dependency[0]);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Conditions: %d cached, %d hits, %d misses, %d invalidations", this.cache.size(), this.hits, this.misses, this.invalidations);
+    }
+
+    private static final class Dependency {
+        private final VariableSet<?> set;
+        // Normalized once here since the version is checked every tick
+        @Nullable
+        private final String key;
+        private final int version;
+
+        public Dependency(@Nonnull final VariableSet<?> set, @Nullable final String member) {
+            this.set = set;
+            this.key = member == null ? null : VariableSet.memberKey(member);
+            this.version = getCurrentVersion();
+        }
+
+        private int getCurrentVersion() {
+            return this.key == null ? this.set.getVersion() : this.set.getVersionForKey(this.key);
+        }
+
+        public boolean isStale() {
+            return this.version != getCurrentVersion();
+        }
+    }
+
+    private static final class CachedResult {
+        private final Object value;
+        private final Dependency[] dependencies;
+
+        public CachedResult(@Nonnull final Object value, @Nonnull final Dependency[] dependencies) {
+            this.value = value;
+            this.dependencies = dependencies;
+        }
+
+        public boolean isStale() {
+            for (final Dependency d : this.dependencies)
+                if (d.isStale())
+                    return true;
+            return false;
+        }
     }
 }
@@ -28,6 +28,14 @@ import javax.annotation.Nonnull;
 @OnlyIn(Dist.CLIENT)
 class StateVariables extends VariableSet<IStateVariables> implements IStateVariables {
 
+    private final BooleanValue isInside = booleanValue(false, "isInside");
+    private final FloatValue currentTemperature = floatValue(0F, "getCurrentTemperature");
+    private final BooleanValue isUnderground = booleanValue(false, "isUnderground");
+    private final BooleanValue isInClouds = booleanValue(false, "isInClouds");
+    private final BooleanValue isInSpace = booleanValue(false, "isInSpace");
+    private final BooleanValue isInVillage = booleanValue(false, "isInVillage");
+    private final IntValue lightLevel = intValue(0, "getLightLevel");
+
     public StateVariables() {
         super("state");
     }
@@ -39,41 +47,47 @@ class StateVariables extends VariableSet<IStateVariables> implements IStateVaria
     }
 
     public void update() {
-
+        this.isInside.set(CommonState.isInside());
+        this.currentTemperature.set(CommonState.getCurrentTemperature());
+        this.isUnderground.set(CommonState.isUnderground());
+        this.isInClouds.set(CommonState.isInClouds());
+        this.isInSpace.set(CommonState.isInSpace());
+        this.isInVillage.set(CommonState.isInVillage());
+        this.lightLevel.set(CommonState.getLightLevel());
     }
 
     @Override
     public boolean isInside() {
-        return CommonState.isInside();
+        return this.isInside.get();
     }
 
     @Override
     public float getCurrentTemperature() {
-        return CommonState.getCurrentTemperature();
+        return this.currentTemperature.get();
     }
 
     @Override
     public boolean isUnderground() {
-        return CommonState.isUnderground();
+        return this.isUnderground.get();
     }
 
     @Override
     public boolean isInClouds() {
-        return CommonState.isInClouds();
+        return this.isInClouds.get();
     }
 
     @Override
     public boolean isInSpace() {
-        return CommonState.isInSpace();
+        return this.isInSpace.get();
     }
 
     @Override
     public boolean isInVillage() {
-        return CommonState.isInVillage();
+        return this.isInVillage.get();
     }
 
     @Override
     public int getLightLevel() {
-        return CommonState.getLightLevel();
+        return this.lightLevel.get();
     }
 }
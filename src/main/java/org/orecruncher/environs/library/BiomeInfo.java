@@ -30,7 +30,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.orecruncher.environs.Environs;
 import org.orecruncher.environs.library.config.BiomeConfig;
 import org.orecruncher.environs.library.config.AcousticConfig;
-import org.orecruncher.lib.WeightTable;
+import org.orecruncher.lib.AliasWeightTable;
 
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
@@ -60,6 +60,8 @@ public final class BiomeInfo implements Comparable<BiomeInfo> {
 
 	protected final ObjectArray<AcousticEntry> sounds = new ObjectArray<>();
 	protected final ObjectArray<WeightedAcousticEntry> spotSounds = new ObjectArray<>();
+	private AliasWeightTable<WeightedAcousticEntry> spotSoundTable = new AliasWeightTable.Builder<WeightedAcousticEntry>().build();
+	private final BitSet spotSoundMask = new BitSet();
 	protected ObjectArray<String> comments;
 
 	protected final boolean isRiver;
@@ -193,12 +195,15 @@ public final class BiomeInfo implements Comparable<BiomeInfo> {
 	public IAcoustic getSpotSound(@Nonnull final Random random) {
 		if (this.spotSounds.size() == 0 || random.nextInt(this.spotSoundChance) != 0)
 			return null;
-		return new WeightTable<>(this.spotSounds.stream().filter(AcousticEntry::matches).collect(Collectors.toList())).next();
+		this.spotSoundTable.fill(this.spotSoundMask, AcousticEntry::matches);
+		final WeightedAcousticEntry entry = this.spotSoundTable.next(random, this.spotSoundMask);
+		return entry != null ? entry.getAcoustic() : null;
 	}
 
 	void resetSounds() {
 		this.sounds.clear();
 		this.spotSounds.clear();
+		this.spotSoundTable = new AliasWeightTable.Builder<WeightedAcousticEntry>().build();
 		this.spotSoundChance = DEFAULT_SPOT_CHANCE;
 	}
 
@@ -240,6 +245,10 @@ public final class BiomeInfo implements Comparable<BiomeInfo> {
 	public void trim() {
 		this.sounds.trim();
 		this.spotSounds.trim();
+		final AliasWeightTable.Builder<WeightedAcousticEntry> builder = new AliasWeightTable.Builder<>();
+		for (final WeightedAcousticEntry entry : this.spotSounds)
+			builder.add(entry, entry.getWeight());
+		this.spotSoundTable = builder.build();
 		this.comments = null;
 	}
 
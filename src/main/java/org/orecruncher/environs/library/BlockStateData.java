@@ -18,6 +18,7 @@
 
 package org.orecruncher.environs.library;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Random;
 
@@ -26,19 +27,24 @@ import javax.annotation.Nonnull;
 import com.google.common.base.Joiner;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
+import org.apache.commons.lang3.StringUtils;
 import org.orecruncher.environs.effects.BlockEffect;
-import org.orecruncher.lib.WeightTable;
+import org.orecruncher.lib.AliasWeightTable;
 import org.orecruncher.lib.collections.ObjectArray;
 import org.orecruncher.sndctrl.api.acoustics.IAcoustic;
 
 /**
- * Base class for the data being assigned into the IBlockState implementation.
+ * Base class for the data being assigned into the IBlockState implementation.  Entries are accumulated while configs
+ * are processed, and once complete the data is frozen into flat arrays along with an alias weight table for the
+ * sounds.  Lookups during a scan only use the frozen arrays.
  */
 @OnlyIn(Dist.CLIENT)
 public class BlockStateData {
 
 	public static final BlockStateData DEFAULT = new BlockStateData();
 
+	private static final BlockEffect[] NO_EFFECTS = new BlockEffect[0];
+
 	protected final ObjectArray<WeightedAcousticEntry> sounds = new ObjectArray<>();
 	protected final ObjectArray<BlockEffect> effects = new ObjectArray<>();
 	protected final ObjectArray<BlockEffect> alwaysOn = new ObjectArray<>();
@@ -46,6 +52,13 @@ public class BlockStateData {
 	protected boolean hasSoundsAndEffects;
 	protected boolean hasAlwaysOn;
 
+	// Frozen state built by freeze()
+	private AliasWeightTable<WeightedAcousticEntry> soundTable = new AliasWeightTable.Builder<WeightedAcousticEntry>().build();
+	private final BitSet soundMask = new BitSet();
+	private boolean hasConditionalSounds;
+	private BlockEffect[] effectTable = NO_EFFECTS;
+	private BlockEffect[] alwaysOnTable = NO_EFFECTS;
+
 	public void setChance(final int chance) {
 		this.chance = chance;
 	}
@@ -80,24 +93,28 @@ public class BlockStateData {
 	}
 
 	@Nonnull
-	public Collection<BlockEffect> getEffects() {
-		return this.effects;
+	public BlockEffect[] getEffects() {
+		return this.effectTable;
 	}
 
 	@Nonnull
-	public Collection<BlockEffect> getAlwaysOnEffects() {
-		return this.alwaysOn;
+	public BlockEffect[] getAlwaysOnEffects() {
+		return this.alwaysOnTable;
 	}
 
 	public IAcoustic getSoundToPlay(@Nonnull final Random random) {
-		if (this.sounds.size() > 0 && random.nextInt(getChance()) == 0) {
-			final WeightTable<IAcoustic> table = new WeightTable<>();
-			for (final WeightedAcousticEntry ae : this.sounds)
-				if (ae.matches())
-					table.add(ae);
-			return table.next();
+		if (this.soundTable.size() == 0 || random.nextInt(getChance()) != 0)
+			return null;
+
+		final WeightedAcousticEntry entry;
+		if (this.hasConditionalSounds) {
+			this.soundTable.fill(this.soundMask, WeightedAcousticEntry::matches);
+			entry = this.soundTable.next(random, this.soundMask);
+		} else {
+			entry = this.soundTable.next(random);
 		}
-		return null;
+
+		return entry != null ? entry.getAcoustic() : null;
 	}
 
 	public boolean hasSoundsOrEffects() {
@@ -108,12 +125,20 @@ public class BlockStateData {
 		return this.hasAlwaysOn;
 	}
 
-	public void trim() {
-		this.sounds.trim();
-		this.effects.trim();
-		this.alwaysOn.trim();
-		this.hasSoundsAndEffects = this.sounds.size() > 0 || this.effects.size() > 0;
-		this.hasAlwaysOn = this.alwaysOn.size() > 0;
+	public void freeze() {
+		this.effectTable = this.effects.toArray(NO_EFFECTS);
+		this.alwaysOnTable = this.alwaysOn.toArray(NO_EFFECTS);
+
+		final AliasWeightTable.Builder<WeightedAcousticEntry> builder = new AliasWeightTable.Builder<>();
+		this.hasConditionalSounds = false;
+		for (final WeightedAcousticEntry ae : this.sounds) {
+			builder.add(ae, ae.getWeight());
+			this.hasConditionalSounds |= !StringUtils.isEmpty(ae.getConditions());
+		}
+		this.soundTable = builder.build();
+
+		this.hasSoundsAndEffects = this.soundTable.size() > 0 || this.effectTable.length > 0;
+		this.hasAlwaysOn = this.alwaysOnTable.length > 0;
 	}
 
 	@Nonnull
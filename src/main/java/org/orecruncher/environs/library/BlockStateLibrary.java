@@ -176,7 +176,7 @@ public final class BlockStateLibrary {
             IResourceAccessor.process(configs, accessor -> initFromConfig(accessor.as(blockType)));
 
             ForgeUtils.getBlockStates().forEach(BlockStateUtil::getData);
-            ForgeUtils.getBlockStates().stream().map(BlockStateUtil::getData).forEach(BlockStateData::trim);
+            ForgeUtils.getBlockStates().stream().map(BlockStateUtil::getData).forEach(BlockStateData::freeze);
 
             BlockStateUtil.setData(Blocks.AIR.getDefaultState(), BlockStateData.DEFAULT);
             BlockStateUtil.setData(Blocks.CAVE_AIR.getDefaultState(), BlockStateData.DEFAULT);
@@ -18,7 +18,6 @@
 
 package org.orecruncher.environs.scanner;
 
-import java.util.Collection;
 import java.util.Random;
 
 import javax.annotation.Nonnull;
@@ -54,7 +53,7 @@ public class AlwaysOnBlockEffectScanner extends CuboidScanner {
 	@Override
 	public void blockScan(@Nonnull final BlockState state, @Nonnull final BlockPos pos, @Nonnull final Random rand) {
 		final IBlockReader provider = this.locus.getWorld();
-		final Collection<BlockEffect> effects = BlockStateUtil.getData(state).getAlwaysOnEffects();
+		final BlockEffect[] effects = BlockStateUtil.getData(state).getAlwaysOnEffects();
 		for (final BlockEffect be : effects) {
 			if (be.canTrigger(provider, state, pos, rand))
 				be.doEffect(provider, state, pos, rand);
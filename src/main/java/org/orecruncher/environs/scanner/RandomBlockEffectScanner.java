@@ -18,7 +18,6 @@
 
 package org.orecruncher.environs.scanner;
 
-import java.util.Collection;
 import java.util.Random;
 
 import javax.annotation.Nonnull;
@@ -66,7 +65,7 @@ public class RandomBlockEffectScanner extends RandomScanner {
 	public void blockScan(@Nonnull final BlockState state, @Nonnull final BlockPos pos, @Nonnull final Random rand) {
 		final IBlockReader world = this.locus.getWorld();
 		final BlockStateData profile = BlockStateUtil.getData(state);
-		final Collection<BlockEffect> effects = profile.getEffects();
+		final BlockEffect[] effects = profile.getEffects();
 
 		for (final BlockEffect be : effects) {
 			if (be.canTrigger(world, state, pos, rand))
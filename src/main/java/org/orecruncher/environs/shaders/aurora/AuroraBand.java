@@ -21,9 +21,7 @@ package org.orecruncher.environs.shaders.aurora;
 import java.util.Random;
 
 import javax.annotation.Nonnull;
-import javax.annotation.Nullable;
 
-import net.minecraft.util.math.vector.Vector3f;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import org.orecruncher.lib.math.MathStuff;
@@ -38,6 +36,10 @@ public class AuroraBand {
 	protected final Random random;
 
 	protected Panel[] nodes;
+	protected float[] baseZ;
+	protected float[] nodeZ;
+	protected float[] nodeY;
+	protected float[] quads;
 	protected float cycle = 0.0F;
 	protected int alphaLimit = 128;
 	protected int length;
@@ -65,27 +67,14 @@ public class AuroraBand {
 	}
 
 	/**
-	 * Retrieves the points that define the panel.  Ordering of the points are lower left, lower right, upper right,
-	 * and then upper left.
+	 * Retrieves the quads that define the panels of the band as of the last call to translate().  See PanelGeometry
+	 * for the layout.  The array is owned by the band and is rewritten on each translate.
 	 *
-	 * @param panelNumber  The panel in the sequence that is being queried
-	 * @return A quad defining the panel region, null if there is no such panel
+	 * @return Quad array for the band
 	 */
-	@Nullable
-	public Vector3f[] getPanelQuad(final int panelNumber) {
-		if (panelNumber < 0 || panelNumber >= getPanelCount())
-			return null;
-
-		final Vector3f[] nodes = new Vector3f[4];
-		final Panel panelA = this.nodes[panelNumber];
-		final Panel panelB = this.nodes[panelNumber + 1];
-
-		nodes[0] = new Vector3f(panelA.tetX, 0, panelA.tetZ);
-		nodes[1] = new Vector3f(panelB.tetX, 0, panelB.tetZ);
-		nodes[2] = new Vector3f(panelB.tetX, panelB.getModdedY(), panelB.tetZ);
-		nodes[3] = new Vector3f(panelA.tetX, panelA.getModdedY(), panelA.tetZ);
-
-		return nodes;
+	@Nonnull
+	public float[] getPanelQuads() {
+		return this.quads;
 	}
 
 	public void update() {
@@ -101,8 +90,10 @@ public class AuroraBand {
 		for (int i = 0; i < this.nodes.length; i++) {
 			// Travelling sine wave: https://en.wikipedia.org/wiki/Wavelength
 			final float f = MathStuff.cos(MathStuff.toRadians((i << 3) + c));
-			this.nodes[i].translate(f * 3.0F, f * AURORA_WAVELENGTH);
+			this.nodeZ[i] = this.baseZ[i] + f * AURORA_WAVELENGTH;
+			this.nodeY[i] = MathStuff.max(0, this.nodes[i].posY + f * 3.0F);
 		}
+		PanelGeometry.update(this.quads, this.nodeZ, this.nodeY);
 	}
 
 	protected void preset(final AuroraFactory.AuroraGeometry geo) {
@@ -115,9 +106,19 @@ public class AuroraBand {
 	protected void generateBands() {
 		this.nodes = populate();
 
+		final float[] nodeX = new float[this.length];
+		this.baseZ = new float[this.length];
+		this.nodeZ = new float[this.length];
+		this.nodeY = new float[this.length];
+
 		for (int i = 0; i < this.length; i++) {
-			this.nodes[i].setWidth(this.nodeWidth);
+			final Panel panel = this.nodes[i];
+			panel.setWidth(this.nodeWidth);
+			nodeX[i] = panel.tetX;
+			this.baseZ[i] = panel.getBaseZ();
 		}
+
+		this.quads = PanelGeometry.create(nodeX);
 	}
 
 	@Nonnull
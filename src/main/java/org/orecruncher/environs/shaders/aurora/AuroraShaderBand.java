@@ -24,7 +24,6 @@ import com.mojang.blaze3d.vertex.IVertexBuilder;
 import net.minecraft.client.renderer.*;
 import net.minecraft.util.math.vector.Matrix4f;
 import net.minecraft.util.math.vector.Vector3d;
-import net.minecraft.util.math.vector.Vector3f;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import org.orecruncher.environs.shaders.ShaderPrograms;
@@ -89,18 +88,17 @@ public class AuroraShaderBand extends AuroraBase {
 
 	protected void generateBand(@Nonnull final IVertexBuilder builder, @Nonnull final Matrix4f matrix) {
 
-		for (int i = 0; ; i++) {
-			final Vector3f[] quad = this.band.getPanelQuad(i);
-			if (quad == null)
-				break;
-
+		final float[] quads = this.band.getPanelQuads();
+		final int panels = this.band.getPanelCount();
+		for (int i = 0; i < panels; i++) {
+			final int q = i * PanelGeometry.FLOATS_PER_QUAD;
 			final float u1 = i * this.panelTexWidth;
 			final float u2 = u1 + this.panelTexWidth;
 
-			builder.pos(matrix, quad[0].getX(), quad[0].getY(), quad[0].getZ()).tex(u1, V1).endVertex();
-			builder.pos(matrix, quad[1].getX(), quad[1].getY(), quad[1].getZ()).tex(u2, V1).endVertex();
-			builder.pos(matrix, quad[2].getX(), quad[2].getY(), quad[2].getZ()).tex(u2, V2).endVertex();
-			builder.pos(matrix, quad[3].getX(), quad[3].getY(), quad[3].getZ()).tex(u1, V2).endVertex();
+			builder.pos(matrix, quads[q], quads[q + 1], quads[q + 2]).tex(u1, V1).endVertex();
+			builder.pos(matrix, quads[q + 3], quads[q + 4], quads[q + 5]).tex(u2, V1).endVertex();
+			builder.pos(matrix, quads[q + 6], quads[q + 7], quads[q + 8]).tex(u2, V2).endVertex();
+			builder.pos(matrix, quads[q + 9], quads[q + 10], quads[q + 11]).tex(u1, V2).endVertex();
 		}
 
 	}
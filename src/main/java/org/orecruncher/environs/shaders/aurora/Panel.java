@@ -29,9 +29,6 @@ final class Panel {
 	private static final float COS_DEG270_FACTOR = MathStuff.cos(MathStuff.PI_F / 2.0F + MathStuff.PI_F);
 	private static final float SIN_DEG90_FACTOR = MathStuff.sin(MathStuff.PI_F / 2.0F);
 
-	private float dZ = 0.0F;
-	private float dY = 0.0F;
-
 	private float sinDeg90 = 0.0F;
 
 	public final float posX;
@@ -40,7 +37,6 @@ final class Panel {
 
 	public float tetX = 0.0F;
 	public float tetX2 = 0.0F;
-	public float tetZ = 0.0F;
 
 	public Panel(final float x, final float y, final float z) {
 		this.posX = x;
@@ -48,21 +44,11 @@ final class Panel {
 		this.posZ = z;
 	}
 
-	public void translate(final float dY, final float dZ) {
-		this.dZ = dZ;
-		this.dY = dY;
-
-		final float mZ = this.getModdedZ();
-		this.tetZ = mZ + this.sinDeg90;
-	}
-
-	public float getModdedZ() {
-		return this.posZ + this.dZ;
-	}
-
-	public float getModdedY() {
-		final float y = this.posY + this.dY;
-		return MathStuff.max(0, y);
+	/**
+	 * Z coordinate of the panel edge before any animation offset is applied.
+	 */
+	public float getBaseZ() {
+		return this.posZ + this.sinDeg90;
 	}
 
 	public void setWidth(final float w) {
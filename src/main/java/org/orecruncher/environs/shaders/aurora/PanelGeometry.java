@@ -0,0 +1,85 @@
+/*
+ *  Dynamic Surroundings
+ *  Copyright (C) 2020  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.environs.shaders.aurora;
+
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Builds the vertex data for the panels of an aurora band.  Quads are stored in a flat float array as x, y, z
+ * triples ordered lower left, lower right, upper right, upper left.  The X coordinates and the base of each panel
+ * do not change once a band is generated, so the array is created once and only the Z coordinates and the panel
+ * heights are rewritten as the band animates.
+ */
+@OnlyIn(Dist.CLIENT)
+final class PanelGeometry {
+	private PanelGeometry() {
+
+	}
+
+	public static final int FLOATS_PER_VERTEX = 3;
+	public static final int FLOATS_PER_QUAD = FLOATS_PER_VERTEX * 4;
+
+	/**
+	 * Creates the quad array for a band.  The array holds one quad for each adjacent pair of nodes.
+	 *
+	 * @param nodeX X coordinate of each node
+	 * @return Quad array with the fixed X and base Y coordinates filled in
+	 */
+	@Nonnull
+	public static float[] create(@Nonnull final float[] nodeX) {
+		final int panels = Math.max(0, nodeX.length - 1);
+		final float[] quads = new float[panels * FLOATS_PER_QUAD];
+		for (int i = 0; i < panels; i++) {
+			final int base = i * FLOATS_PER_QUAD;
+			final float xA = nodeX[i];
+			final float xB = nodeX[i + 1];
+			// Lower left, lower right, upper right, upper left.  The lower Y stays at 0.
+			quads[base] = xA;
+			quads[base + 3] = xB;
+			quads[base + 6] = xB;
+			quads[base + 9] = xA;
+		}
+		return quads;
+	}
+
+	/**
+	 * Rewrites the animated coordinates of the quads.
+	 *
+	 * @param quads Quad array obtained from create()
+	 * @param nodeZ Current Z coordinate of each node
+	 * @param nodeY Current height of each node
+	 */
+	public static void update(@Nonnull final float[] quads, @Nonnull final float[] nodeZ, @Nonnull final float[] nodeY) {
+		final int panels = quads.length / FLOATS_PER_QUAD;
+		for (int i = 0; i < panels; i++) {
+			final int base = i * FLOATS_PER_QUAD;
+			final float zA = nodeZ[i];
+			final float zB = nodeZ[i + 1];
+			quads[base + 2] = zA;
+			quads[base + 5] = zB;
+			quads[base + 7] = nodeY[i + 1];
+			quads[base + 8] = zB;
+			quads[base + 10] = nodeY[i];
+			quads[base + 11] = zA;
+		}
+	}
+}
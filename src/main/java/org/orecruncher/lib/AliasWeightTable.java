@@ -0,0 +1,225 @@
+/*
+ * Dynamic Surroundings: Sound Control
+ * Copyright (C) 2019  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.lib;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.orecruncher.lib.collections.ObjectArray;
+import org.orecruncher.lib.random.XorShiftRandom;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * Immutable weight table that uses Vose's alias method for selection.  Unlike WeightTable, which scans its entries on
+ * every draw, a selection from this table is constant time.  Instances are created through a Builder once all the
+ * entries are known.
+ * <p>
+ * Entries that are gated by a condition can be selected through a caller supplied BitSet that indicates which entries
+ * are eligible.  The BitSet can be reused between calls to avoid allocation.
+ *
+ * @param <T> Type of item stored in the table
+ */
+public final class AliasWeightTable<T> {
+
+    private final Object[] items;
+    private final int[] weights;
+    private final int[] probability;
+    private final int[] alias;
+    private final int totalWeight;
+
+    private AliasWeightTable(@Nonnull final Object[] items, @Nonnull final int[] weights) {
+        this.items = items;
+        this.weights = weights;
+        this.probability = new int[items.length];
+        this.alias = new int[items.length];
+
+        int total = 0;
+        for (final int w : weights)
+            total += w;
+        this.totalWeight = total;
+
+        if (total > 0)
+            initialize();
+    }
+
+    private void initialize() {
+        // Weights are scaled by the number of entries so that an entry with an average weight exactly fills a column.
+        // Integer math is used throughout so the resulting distribution is exact.
+        final int n = this.items.length;
+        final long[] scaled = new long[n];
+        final int[] small = new int[n];
+        final int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            scaled[i] = (long) this.weights[i] * n;
+            if (scaled[i] < this.totalWeight)
+                small[smallCount++] = i;
+            else
+                large[largeCount++] = i;
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            final int l = small[--smallCount];
+            final int g = large[--largeCount];
+            this.probability[l] = (int) scaled[l];
+            this.alias[l] = g;
+            scaled[g] = scaled[g] + scaled[l] - this.totalWeight;
+            if (scaled[g] < this.totalWeight)
+                small[smallCount++] = g;
+            else
+                large[largeCount++] = g;
+        }
+
+        while (largeCount > 0) {
+            final int g = large[--largeCount];
+            this.probability[g] = this.totalWeight;
+            this.alias[g] = g;
+        }
+
+        // Should not happen with integer math, but make sure the column is fully owned
+        while (smallCount > 0) {
+            final int l = small[--smallCount];
+            this.probability[l] = this.totalWeight;
+            this.alias[l] = l;
+        }
+    }
+
+    public int size() {
+        return this.items.length;
+    }
+
+    public int getTotalWeight() {
+        return this.totalWeight;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public T get(final int idx) {
+        return (T) this.items[idx];
+    }
+
+    /**
+     * Selects an item from the table using the thread's random number generator.
+     *
+     * @return Selected item, or null if the table does not have any weight
+     */
+    @Nullable
+    public T next() {
+        return next(XorShiftRandom.current());
+    }
+
+    /**
+     * Selects an item from the table using the provided random number generator.
+     *
+     * @param random Random number generator to use
+     * @return Selected item, or null if the table does not have any weight
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public T next(@Nonnull final Random random) {
+        if (this.totalWeight <= 0)
+            return null;
+        if (this.items.length == 1)
+            return (T) this.items[0];
+        final int column = random.nextInt(this.items.length);
+        final int idx = random.nextInt(this.totalWeight) < this.probability[column] ? column : this.alias[column];
+        return (T) this.items[idx];
+    }
+
+    /**
+     * Selects an item from the entries that are set in the mask.  If all weighted entries are eligible the alias
+     * table is used, otherwise the eligible entries are walked.
+     *
+     * @param random Random number generator to use
+     * @param mask   Indicates which entries are eligible for selection
+     * @return Selected item, or null if none of the eligible entries have weight
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public T next(@Nonnull final Random random, @Nonnull final BitSet mask) {
+        int total = 0;
+        for (int i = mask.nextSetBit(0); i >= 0 && i < this.items.length; i = mask.nextSetBit(i + 1))
+            total += this.weights[i];
+
+        if (total <= 0)
+            return null;
+        if (total == this.totalWeight)
+            return next(random);
+
+        int targetWeight = random.nextInt(total);
+        for (int i = mask.nextSetBit(0); i >= 0 && i < this.items.length; i = mask.nextSetBit(i + 1)) {
+            targetWeight -= this.weights[i];
+            if (targetWeight < 0)
+                return (T) this.items[i];
+        }
+        return null;
+    }
+
+    /**
+     * Fills the mask with the entries that satisfy the filter.  Any previous content of the mask is cleared.
+     *
+     * @param mask   Mask to fill
+     * @param filter Filter that determines if an entry is eligible
+     * @return The mask that was passed in
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public BitSet fill(@Nonnull final BitSet mask, @Nonnull final Predicate<? super T> filter) {
+        mask.clear();
+        for (int i = 0; i < this.items.length; i++)
+            if (filter.test((T) this.items[i]))
+                mask.set(i);
+        return mask;
+    }
+
+    public static final class Builder<T> {
+
+        private final ObjectArray<T> items = new ObjectArray<>();
+        private int[] weights = ArrayUtils.EMPTY_INT_ARRAY;
+
+        public Builder<T> add(@Nonnull final WeightTable.IItem<T> item) {
+            return add(item.getItem(), item.getWeight());
+        }
+
+        public Builder<T> add(@Nonnull final T item, final int weight) {
+            final int idx = this.items.size();
+            if (idx == this.weights.length)
+                this.weights = Arrays.copyOf(this.weights, Math.max(4, idx * 2));
+            this.weights[idx] = Math.max(weight, 0);
+            this.items.add(item);
+            return this;
+        }
+
+        public int size() {
+            return this.items.size();
+        }
+
+        @Nonnull
+        public AliasWeightTable<T> build() {
+            final int n = this.items.size();
+            return new AliasWeightTable<>(this.items.toArray(), Arrays.copyOf(this.weights, n));
+        }
+    }
+}
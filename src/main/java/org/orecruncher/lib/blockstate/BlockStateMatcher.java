@@ -140,6 +140,17 @@ public final class BlockStateMatcher {
         return this.block;
     }
 
+    /**
+     * Determines if the BlockState is matched by this instance.  This is the same test performed by equals() against
+     * a matcher created from the state, but without having to create the matcher.
+     *
+     * @param state The BlockState to evaluate
+     * @return true if the BlockState matches, false otherwise
+     */
+    public boolean matches(@Nonnull final BlockState state) {
+        return this.block == state.getBlock() && this.props.matches(state.getValues());
+    }
+
     @Override
     public int hashCode() {
         // Only do the block hash code.  Reason is that BlockStateMatcher does not honor the equality contract set
@@ -26,6 +26,7 @@ import net.minecraft.block.BlockState;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -34,27 +35,65 @@ import java.util.stream.Collectors;
 /**
  * Special Map implementation that is implemented with BlockStateMatcher as a key type.  It handles any special
  * processing that may occur because of the fuzzyness of BlockState matching.
+ * <p>
+ * Lookups by BlockState are resolved once and then remembered in an array indexed by the state ID, so repeated lookups
+ * are a single array read.  States that have no entry remember the default value, which is obtained once each time the
+ * array is built.  The array is discarded whenever the contents of the map or the default change.  The collection
+ * views are read only so that changes cannot bypass this.
  *
  * @param <T> Value type of the Map
  */
 public final class BlockStateMatcherMap<T> implements Map<BlockStateMatcher, T> {
 
+    // Marker for a state that was resolved to a null value
+    private static final Object NO_VALUE = new Object();
+
     private final Map<BlockStateMatcher, T> map = new Object2ObjectOpenHashMap<>();
+    private final Map<BlockStateMatcher, T> view = Collections.unmodifiableMap(this.map);
     @Nonnull
     private Supplier<T> defaultValue = () -> null;
+    @Nullable
+    private Object[] resolved;
+    @Nullable
+    private T fallback;
 
+    @SuppressWarnings("unchecked")
     @Nullable
     public T get(@Nonnull final BlockState state) {
+        Object[] cache = this.resolved;
+        if (cache == null) {
+            this.resolved = cache = new Object[Block.BLOCK_STATE_IDS.size()];
+            this.fallback = this.defaultValue.get();
+        }
+
+        final int id = Block.getStateId(state);
+        if (id < 0 || id >= cache.length) {
+            final T result = resolve(state);
+            return result == null ? this.fallback : result;
+        }
+
+        Object result = cache[id];
+        if (result == null) {
+            T value = resolve(state);
+            if (value == null)
+                value = this.fallback;
+            cache[id] = result = value == null ? NO_VALUE : value;
+        }
+
+        return result == NO_VALUE ? null : (T) result;
+    }
+
+    @Nullable
+    private T resolve(@Nonnull final BlockState state) {
         T result = this.map.get(BlockStateMatcher.create(state));
         if (result == null)
             result = this.map.get(BlockStateMatcher.asGeneric(state));
-        if (result == null)
-            result = this.defaultValue.get();
         return result;
     }
 
     public void setDefaultValue(@Nonnull final Supplier<T> s) {
         this.defaultValue = s;
+        this.resolved = null;
     }
 
     @Override
@@ -86,41 +125,45 @@ public final class BlockStateMatcherMap<T> implements Map<BlockStateMatcher, T>
     @Override
     @Nullable
     public T put(@Nonnull final BlockStateMatcher matcher, @Nonnull final T val) {
+        this.resolved = null;
         return this.map.put(matcher, val);
     }
 
     @Override
     @Nullable
     public T remove(Object key) {
+        this.resolved = null;
         return this.map.remove(key);
     }
 
     @Override
     public void putAll(Map<? extends BlockStateMatcher, ? extends T> m) {
+        this.resolved = null;
         this.map.putAll(m);
     }
 
     @Override
     public void clear() {
+        this.resolved = null;
         this.map.clear();
     }
 
     @Override
     @Nonnull
     public Set<BlockStateMatcher> keySet() {
-        return this.map.keySet();
+        return this.view.keySet();
     }
 
     @Override
     @Nonnull
     public Collection<T> values() {
-        return this.map.values();
+        return this.view.values();
     }
 
     @Override
     @Nonnull
     public Set<Entry<BlockStateMatcher, T>> entrySet() {
-        return this.map.entrySet();
+        return this.view.entrySet();
     }
 
     public void put(@Nonnull final String blockName, @Nonnull final T val) {
@@ -18,22 +18,29 @@
 
 package org.orecruncher.lib.effects;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.client.world.ClientWorld;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.profiler.IProfiler;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.entity.EntityLeaveWorldEvent;
 import net.minecraftforge.event.entity.living.LivingEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import org.orecruncher.dsurround.DynamicSurroundings;
 import org.orecruncher.lib.GameUtils;
 import org.orecruncher.lib.Lib;
+import org.orecruncher.lib.TickCounter;
 import org.orecruncher.lib.collections.ObjectArray;
 import org.orecruncher.lib.events.DiagnosticEvent;
 import org.orecruncher.lib.math.LoggingTimerEMA;
+import org.orecruncher.lib.particles.FrustumHelper;
 import org.orecruncher.sndctrl.config.Config;
 import org.orecruncher.lib.effects.entity.CapabilityEntityFXData;
 import org.orecruncher.lib.effects.entity.IEntityFX;
@@ -41,6 +48,7 @@ import org.orecruncher.sndctrl.api.effects.AbstractEntityEffect;
 import org.orecruncher.sndctrl.library.EntityEffectLibrary;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Optional;
 
 /**
@@ -52,8 +60,22 @@ import java.util.Optional;
 @Mod.EventBusSubscriber(modid = DynamicSurroundings.MOD_ID, value = Dist.CLIENT, bus = Mod.EventBusSubscriber.Bus.FORGE)
 public final class EntityEffectHandler {
 
+    // Deferrable effects are updated at an interval based on their distance from the player.  Entities out of view
+    // have their interval doubled, and updates are staggered by entity ID so that a tier does not update all at
+    // once.  Effects that are not deferrable (footsteps, swing, bow) are still updated every tick.
+    private static final double NEAR_RANGE_SQ = 16 * 16;
+    private static final double MID_RANGE_SQ = 32 * 32;
+
+    // Effect managers keyed by entity ID.  This avoids going through the capability system for each living
+    // entity every tick; the capability is kept in sync when a manager is attached or removed.
+    private static final Int2ObjectOpenHashMap<EntityEffectManager> managers = new Int2ObjectOpenHashMap<>();
+
     private static final LoggingTimerEMA timer = new LoggingTimerEMA("Entity Effect Update");
     private static long nanos;
+    private static int updated;
+    private static int deferred;
+    private static int lastUpdated;
+    private static int lastDeferred;
 
     private EntityEffectHandler() {
     }
@@ -83,6 +105,20 @@ public final class EntityEffectHandler {
         return Optional.of(result);
     }
 
+    /**
+     * Determines how often, in ticks, the deferrable effects for an entity should be updated.
+     *
+     * @param entity The entity being updated
+     * @param distSq Distance, squared, of the entity from the player
+     * @return Number of ticks between updates, 1 through 8
+     */
+    static int getTickInterval(@Nonnull final LivingEntity entity, final double distSq) {
+        if (distSq <= NEAR_RANGE_SQ)
+            return 1;
+        final int interval = distSq <= MID_RANGE_SQ ? 2 : 4;
+        return FrustumHelper.isBoundingBoxInFrustum(entity.getBoundingBox()) ? interval : interval * 2;
+    }
+
     @SubscribeEvent(receiveCanceled = true)
     public static void onLivingUpdate(@Nonnull final LivingEvent.LivingUpdateEvent event) {
         try {
@@ -93,19 +129,34 @@ public final class EntityEffectHandler {
                 profiler.startSection("MobEffects Living Update");
                 final long start = System.nanoTime();
 
-                entity.getCapability(CapabilityEntityFXData.FX_INFO).ifPresent(cap -> {
-                    final int range = Config.CLIENT.effects.effectRange.get();
-                    final int effectDistSq = range * range;
-                    final boolean inRange = entity.getDistanceSq(GameUtils.getPlayer()) <= effectDistSq;
-                    final EntityEffectManager mgr = cap.get();
-                    if (mgr != null && !inRange) {
-                        cap.clear();
-                    } else if (mgr == null && inRange && entity.isAlive()) {
-                        cap.set(create(entity).get());
-                    } else if (mgr != null) {
-                        mgr.update();
-                    }
-                });
+                final PlayerEntity player = GameUtils.getPlayer();
+                final double distSq = entity == player ? 0 : entity.getDistanceSq(player);
+                final int interval = getTickInterval(entity, distSq);
+                final boolean defer = interval > 1 && (TickCounter.getTickCount() + entity.getEntityId()) % interval != 0;
+                if (defer)
+                    deferred++;
+                else
+                    updated++;
+
+                final int range = Config.CLIENT.effects.effectRange.get();
+                final int effectDistSq = range * range;
+                final boolean inRange = distSq <= effectDistSq;
+                EntityEffectManager mgr = managers.get(entity.getEntityId());
+                if (mgr != null && mgr.getEntity() != entity) {
+                    // Stale entry from an entity whose ID has been reused
+                    managers.remove(entity.getEntityId());
+                    mgr = null;
+                }
+                if (mgr != null && !inRange) {
+                    managers.remove(entity.getEntityId());
+                    setCapability(entity, null);
+                } else if (mgr == null && inRange && entity.isAlive()) {
+                    mgr = create(entity).get();
+                    managers.put(entity.getEntityId(), mgr);
+                    setCapability(entity, mgr);
+                } else if (mgr != null) {
+                    mgr.update(!defer);
+                }
 
                 nanos += System.nanoTime() - start;
                 profiler.endSection();
@@ -115,7 +166,12 @@ public final class EntityEffectHandler {
         }
     }
 
+    private static void setCapability(@Nonnull final Entity entity, @Nullable final EntityEffectManager mgr) {
+        entity.getCapability(CapabilityEntityFXData.FX_INFO).ifPresent(cap -> cap.set(mgr));
+    }
+
     private static void clearHandlers() {
+        managers.clear();
         final Iterable<Entity> entities = GameUtils.getWorld().getAllEntities();
         for (final Entity e : entities) {
             e.getCapability(CapabilityEntityFXData.FX_INFO).ifPresent(IEntityFX::clear);
@@ -135,16 +191,39 @@ public final class EntityEffectHandler {
         }
     }
 
+    @SubscribeEvent
+    public static void onEntityLeave(@Nonnull final EntityLeaveWorldEvent event) {
+        if (event.getWorld().isRemote) {
+            final EntityEffectManager mgr = managers.get(event.getEntity().getEntityId());
+            if (mgr != null && mgr.getEntity() == event.getEntity())
+                managers.remove(event.getEntity().getEntityId());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(@Nonnull final WorldEvent.Unload event) {
+        if (event.getWorld() instanceof ClientWorld)
+            managers.clear();
+    }
+
     @SubscribeEvent
     public static void onClientTick(@Nonnull final TickEvent.ClientTickEvent event) {
         timer.update(nanos);
         nanos = 0;
+        if (event.phase == TickEvent.Phase.START) {
+            lastUpdated = updated;
+            lastDeferred = deferred;
+            updated = 0;
+            deferred = 0;
+        }
     }
 
     @SubscribeEvent
     public static void onDiagnostics(@Nonnull final DiagnosticEvent event) {
-        if (Config.CLIENT.logging.enableLogging.get())
+        if (Config.CLIENT.logging.enableLogging.get()) {
             event.getRenderTimers().add(timer);
+            event.getLeft().add(String.format("Entity Effects: %d managers, %d updated, %d deferred", managers.size(), lastUpdated, lastDeferred));
+        }
     }
 
 }
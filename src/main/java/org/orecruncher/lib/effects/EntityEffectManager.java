@@ -70,13 +70,23 @@ public class EntityEffectManager implements IEntityEffectManager {
 	 * EntityEffects that are attached.
 	 */
 	public void update() {
+		update(true);
+	}
+
+	/**
+	 * Updates the state of the EntityEffectHandler as well as the state of the
+	 * EntityEffects that are attached.
+	 *
+	 * @param includeDeferrable Whether effects that tolerate skipped ticks should be updated
+	 */
+	public void update(final boolean includeDeferrable) {
 		if (!isActive())
 			return;
 		this.isActive = isEntityAlive();
 		if (this.activeEffects != null) {
 			this.rangeToPlayer = this.subject.getDistanceSq(thePlayer());
 			for (final AbstractEntityEffect eff : this.activeEffects)
-				if (this.isActive || eff.receiveLastCall())
+				if ((includeDeferrable || !eff.isDeferrable()) && (this.isActive || eff.receiveLastCall()))
 					eff.update();
 		}
 	}
@@ -18,45 +18,73 @@
 
 package org.orecruncher.lib.events;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.eventbus.api.Event;
 
 import javax.annotation.Nonnull;
-import java.util.Collection;
-import java.util.Set;
+import java.util.function.Consumer;
 
 @OnlyIn(Dist.CLIENT)
 public class BlockUpdateEvent extends Event {
 
-    private final Collection<BlockPos> positions;
-    private final Set<BlockPos> expanded;
+    private final LongSet positions;
+    private LongSet expanded;
 
-    public BlockUpdateEvent(@Nonnull final Collection<BlockPos> positions) {
+    public BlockUpdateEvent(@Nonnull final LongSet positions) {
         this.positions = positions;
-        this.expanded = new ObjectOpenHashSet<>();
     }
 
+    /**
+     * Positions of the blocks that were updated, packed via BlockPos.toLong().
+     */
     @Nonnull
-    public Collection<BlockPos> getPositions() {
+    public LongSet getPositions() {
         return this.positions;
     }
 
+    /**
+     * Positions of the updated blocks plus their immediate neighbors, packed via BlockPos.toLong().  The set is
+     * computed on first request and shared by all listeners.
+     */
     @Nonnull
-    public Collection<BlockPos> getExpandedPositions() {
-        if (this.expanded.size() == 0) {
-            for (final BlockPos center : this.positions)
-                expand(center, this.expanded);
+    public LongSet getExpandedPositions() {
+        if (this.expanded == null) {
+            this.expanded = new LongOpenHashSet(this.positions.size() * 27);
+            final LongIterator itr = this.positions.iterator();
+            while (itr.hasNext())
+                expand(itr.nextLong(), this.expanded);
         }
         return this.expanded;
     }
 
-    protected void expand(@Nonnull final BlockPos center, @Nonnull final Set<BlockPos> result) {
+    /**
+     * Visits each of the expanded positions.  The BlockPos handed to the visitor is reused between calls so it
+     * must be copied with toImmutable() if it is to be retained.
+     *
+     * @param visitor Consumer that receives each position
+     */
+    public void forEachExpandedPosition(@Nonnull final Consumer<BlockPos> visitor) {
+        final BlockPos.Mutable pos = new BlockPos.Mutable();
+        final LongIterator itr = getExpandedPositions().iterator();
+        while (itr.hasNext()) {
+            final long packed = itr.nextLong();
+            pos.setPos(BlockPos.unpackX(packed), BlockPos.unpackY(packed), BlockPos.unpackZ(packed));
+            visitor.accept(pos);
+        }
+    }
+
+    protected void expand(final long center, @Nonnull final LongSet result) {
+        final int x = BlockPos.unpackX(center);
+        final int y = BlockPos.unpackY(center);
+        final int z = BlockPos.unpackZ(center);
         for (int i = -1; i < 2; i++)
             for (int j = -1; j < 2; j++)
                 for (int k = -1; k < 2; k++)
-                    result.add(center.add(i, j, k));
+                    result.add(BlockPos.pack(x + i, y + j, z + k));
     }
 }
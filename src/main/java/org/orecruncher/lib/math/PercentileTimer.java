@@ -0,0 +1,85 @@
+/*
+ * Dynamic Surroundings: Sound Control
+ * Copyright (C) 2019  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.lib.math;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * Keeps a rolling window of timing samples so that percentiles can be reported.  The time unit it expects to deal
+ * with is nanoseconds.  Percentiles are computed on request by sorting a copy of the window, so it is intended for
+ * diagnostic display rather than per tick use.
+ */
+public class PercentileTimer {
+
+    private static final int DEFAULT_SAMPLES = 100;
+
+    private final String name;
+    private final long[] samples;
+    private final long[] sorted;
+    private int index;
+    private int count;
+
+    public PercentileTimer(@Nonnull final String name) {
+        this(name, DEFAULT_SAMPLES);
+    }
+
+    public PercentileTimer(@Nonnull final String name, final int samples) {
+        this.name = name;
+        this.samples = new long[samples];
+        this.sorted = new long[samples];
+    }
+
+    @Nonnull
+    public String name() {
+        return this.name;
+    }
+
+    public void update(final long nanos) {
+        this.samples[this.index] = nanos;
+        this.index = (this.index + 1) % this.samples.length;
+        if (this.count < this.samples.length)
+            this.count++;
+    }
+
+    /**
+     * Obtains the requested percentile of the samples in the window.
+     *
+     * @param percentile Percentile to report, 0 through 100
+     * @return The sample value at the percentile in milliseconds, 0 if there are no samples
+     */
+    public double getMSecs(final double percentile) {
+        if (this.count == 0)
+            return 0;
+        System.arraycopy(this.samples, 0, this.sorted, 0, this.count);
+        Arrays.sort(this.sorted, 0, this.count);
+        final int idx = (int) Math.ceil(percentile / 100D * this.count) - 1;
+        return this.sorted[Math.max(0, Math.min(idx, this.count - 1))] / 1000000D;
+    }
+
+    public void clear() {
+        this.index = 0;
+        this.count = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: p50 %.3fms, p95 %.3fms, p99 %.3fms", this.name, getMSecs(50), getMSecs(95), getMSecs(99));
+    }
+}
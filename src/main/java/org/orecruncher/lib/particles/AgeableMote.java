@@ -21,6 +21,7 @@ package org.orecruncher.lib.particles;
 import net.minecraft.world.IBlockReader;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
+import org.orecruncher.lib.math.MathStuff;
 
 import javax.annotation.Nonnull;
 
@@ -30,22 +31,41 @@ public abstract class AgeableMote extends Mote {
     protected int age;
     protected int maxAge;
 
+    protected AgeableMote() {
+
+    }
+
     protected AgeableMote(@Nonnull final IBlockReader world, final double x, final double y, final double z) {
-        super(world, x, y, z);
+        initAgeable(world, x, y, z);
+    }
+
+    protected final void initAgeable(@Nonnull final IBlockReader world, final double x, final double y, final double z) {
+        initMote(world, x, y, z);
         this.age = 0;
     }
 
-    protected boolean advanceAge() {
-        return this.age++ >= this.maxAge;
+    /**
+     * Ages the mote the specified number of ticks.
+     *
+     * @param steps Number of ticks to age the mote
+     * @return Number of those ticks the mote lives through before reaching its life expectancy
+     */
+    protected int advanceAge(final int steps) {
+        final int live = MathStuff.clamp(this.maxAge - this.age, 0, steps);
+        this.age += steps;
+        return live;
     }
 
     @Override
-    public boolean tick() {
+    public boolean tick(final int steps) {
 
-        // The mote reached it's life expectancy
-        if (advanceAge())
+        // Update for the ticks the mote lived through, and then kill it if it reached it's life expectancy
+        final int live = advanceAge(steps);
+        if (live > 0)
+            super.tick(live);
+        if (live < steps)
             kill();
 
-        return super.tick();
+        return isAlive();
     }
 }
@@ -40,11 +40,6 @@ public abstract class AnimatedMote extends MotionMote {
 
 	protected static final Random RANDOM = XorShiftRandom.current();
 
-	/**
-	 * How many different textures there are to progress through as the particle
-	 * decays
-	 */
-	protected float baseAirFriction = 0.91F;
 	/**
 	 * The red value to drift toward
 	 */
@@ -66,22 +61,32 @@ public abstract class AnimatedMote extends MotionMote {
 	protected float dGreen;
 	protected float dBlue;
 
-	protected double xAcceleration;
-	protected double yAcceleration;
-	protected double zAcceleration;
-
 	protected float texU1, texU2;
 	protected float texV1, texV2;
 	protected float particleScale;
 
-	protected final IAnimatedSprite sprites;
+	protected IAnimatedSprite sprites;
+
+	protected AnimatedMote() {
+
+	}
 
 	protected AnimatedMote(final @Nonnull IAnimatedSprite sprites, @Nonnull final IBlockReader world, double x, double y,
 						   double z, double dX, double dY, double dZ) {
-		super(world, x, y, z, dX, dY, dZ);
+		initAnimated(sprites, world, x, y, z, dX, dY, dZ);
+	}
+
+	protected final void initAnimated(final @Nonnull IAnimatedSprite sprites, @Nonnull final IBlockReader world, double x, double y,
+									  double z, double dX, double dY, double dZ) {
+		initMotion(world, x, y, z, dX, dY, dZ);
 
 		this.sprites = sprites;
 		this.particleScale = (RANDOM.nextFloat() * 0.5F + 0.5F) * 2.0F;
+		this.baseAirFriction = 0.91F;
+		this.fadingColor = false;
+		this.fadeTargetRed = this.fadeTargetGreen = this.fadeTargetBlue = 0F;
+		this.dRed = this.dGreen = this.dBlue = 0F;
+		this.xAcceleration = this.yAcceleration = this.zAcceleration = 0D;
 	}
 
 	public void setColor(final int rgb) {
@@ -121,22 +126,15 @@ public abstract class AnimatedMote extends MotionMote {
 	}
 
 	@Override
-	public void handleCollision(@Nonnull final ParticleCollisionResult collision) {
+	public void handleCollision() {
 		this.motionX *= 0.699999988079071D;
 		this.motionZ *= 0.699999988079071D;
 	}
 
 	@Override
-	public void update() {
-
-		this.motionY += this.yAcceleration;
-		this.motionX += this.xAcceleration;
-		this.motionZ += this.zAcceleration;
-		this.motionX *= this.baseAirFriction;
-		this.motionY *= this.baseAirFriction;
-		this.motionZ *= this.baseAirFriction;
+	public void update(final int steps) {
 
-		super.update();
+		super.update(steps);
 
 		if (isAlive()) {
 
@@ -144,9 +142,11 @@ public abstract class AnimatedMote extends MotionMote {
 				this.alpha = (int) ((1.0F - ((float) this.age - (float) (this.maxAge / 2)) / this.maxAge) * 254);
 
 				if (this.fadingColor) {
-					this.red += this.dRed;
-					this.green += this.dGreen;
-					this.blue += this.dBlue;
+					// Fade for each tick of the update that was past the midpoint of the mote's life
+					final int fadeTicks = Math.min(steps, this.age - this.maxAge / 2);
+					this.red += this.dRed * fadeTicks;
+					this.green += this.dGreen * fadeTicks;
+					this.blue += this.dBlue * fadeTicks;
 				}
 			}
 
@@ -20,17 +20,23 @@ package org.orecruncher.lib.particles;
 
 import net.minecraft.client.particle.IParticleRenderType;
 import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
+import org.orecruncher.lib.GameUtils;
 import org.orecruncher.lib.collections.ObjectArray;
 import org.orecruncher.lib.events.DiagnosticEvent;
+import org.orecruncher.lib.random.XorShiftRandom;
 import org.orecruncher.sndctrl.config.Config;
 import org.orecruncher.sndctrl.SoundControl;
 
 import javax.annotation.Nonnull;
+import java.util.Random;
+import java.util.function.Supplier;
 
 @Mod.EventBusSubscriber(modid = SoundControl.MOD_ID, value = Dist.CLIENT, bus = Mod.EventBusSubscriber.Bus.FORGE)
 public final class CollectionManager {
@@ -39,6 +45,23 @@ public final class CollectionManager {
     }
 
     private static final ObjectArray<ParticleCollectionHelper> helpers = new ObjectArray<>();
+    private static final ObjectArray<MotePool<?>> pools = new ObjectArray<>();
+
+    // Level of detail.  Motes close to the camera are always spawned and ticked at full rate.  Further out the spawn
+    // rate, the tick rate, and the cap on the number of motes in a collection scale down based on how well the
+    // combined particle render and tick time fits in the configured budget.
+    static final double NEAR_RANGE_SQ = 16 * 16;
+    static final double FAR_RANGE_SQ = 32 * 32;
+    private static final float MIN_SCALE = 0.1F;
+    private static final int MAX_TICK_INTERVAL = 4;
+    private static final Random RANDOM = XorShiftRandom.current();
+
+    private static float budgetScale = 1F;
+    private static int farTickInterval = 1;
+    private static double particleTime;
+    private static double cameraX;
+    private static double cameraY;
+    private static double cameraZ;
 
     @Nonnull
     public static IParticleCollection create(@Nonnull final String name, @Nonnull final IParticleRenderType renderType) {
@@ -49,21 +72,104 @@ public final class CollectionManager {
         return helper;
     }
 
+    @Nonnull
+    public static <T extends Mote> MotePool<T> createPool(@Nonnull final String name, @Nonnull final Supplier<T> factory) {
+        final MotePool<T> pool = new MotePool<>(name, factory);
+        synchronized (pools) {
+            pools.add(pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Determines if a mote should be spawned at the specified location based on the current level of detail.
+     *
+     * @return true if the mote should be spawned, false otherwise
+     */
+    public static boolean shouldSpawn(final double x, final double y, final double z) {
+        final float scale = getSpawnScale(x, y, z);
+        return scale >= 1F || RANDOM.nextFloat() < scale;
+    }
+
+    /**
+     * Gets the factor to apply to spawn counts at the specified location based on the current level of detail.
+     *
+     * @return Factor between 0 and 1
+     */
+    public static float getSpawnScale(final double x, final double y, final double z) {
+        if (budgetScale >= 1F)
+            return 1F;
+        final double dX = x - cameraX;
+        final double dY = y - cameraY;
+        final double dZ = z - cameraZ;
+        return dX * dX + dY * dY + dZ * dZ <= NEAR_RANGE_SQ ? 1F : budgetScale;
+    }
+
+    static int getParticleCap(final int max) {
+        return Math.max((int) (max * budgetScale), 1);
+    }
+
+    static int getFarTickInterval() {
+        return farTickInterval;
+    }
+
+    static double getCameraX() {
+        return cameraX;
+    }
+
+    static double getCameraY() {
+        return cameraY;
+    }
+
+    static double getCameraZ() {
+        return cameraZ;
+    }
+
+    @SubscribeEvent
+    public static void onClientTick(@Nonnull final TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.START || GameUtils.getWorld() == null)
+            return;
+
+        final Vector3d view = GameUtils.getMC().gameRenderer.getActiveRenderInfo().getProjectedView();
+        cameraX = view.x;
+        cameraY = view.y;
+        cameraZ = view.z;
+
+        double time = 0;
+        for (final ParticleCollectionHelper helper : helpers)
+            time += helper.getMSecs();
+        particleTime = time;
+
+        // Back off quickly when over budget, and recover slowly once there is headroom
+        final double budget = Config.CLIENT.effects.particleBudget.get();
+        if (time > budget)
+            budgetScale = Math.max(budgetScale * 0.9F, MIN_SCALE);
+        else if (time < budget * 0.75D)
+            budgetScale = Math.min(budgetScale * 1.05F, 1F);
+
+        farTickInterval = budgetScale >= 1F ? 1 : Math.min((int) (1F / budgetScale), MAX_TICK_INTERVAL);
+    }
+
     @SubscribeEvent
     public static void onWorldUnload(@Nonnull final WorldEvent.Unload event) {
         if (event.getWorld() instanceof ClientWorld) {
+            budgetScale = 1F;
+            farTickInterval = 1;
             helpers.forEach(ParticleCollectionHelper::clear);
+            pools.forEach(MotePool::clear);
         }
     }
 
     @SubscribeEvent
     public static void diagnostics(@Nonnull final DiagnosticEvent event) {
         if (Config.CLIENT.logging.enableLogging.get()) {
+            event.getLeft().add(TextFormatting.AQUA + String.format("Particle LOD: %.2f scale, %d far tick interval, %.3fms", budgetScale, farTickInterval, particleTime));
             helpers.forEach(h -> {
                 event.getLeft().add(TextFormatting.AQUA + h.toString());
                 h.getRenderTimer().ifPresent(event::addRenderTimer);
                 h.getTickTimer().ifPresent(event::addRenderTimer);
             });
+            pools.forEach(p -> event.getLeft().add(TextFormatting.AQUA + p.toString()));
         }
     }
 
@@ -0,0 +1,130 @@
+/*
+ * Dynamic Surroundings: Sound Control
+ * Copyright (C) 2020  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.lib.particles;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.material.Material;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.shapes.ISelectionContext;
+import net.minecraft.util.math.shapes.VoxelShape;
+import net.minecraft.world.IBlockReader;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import org.orecruncher.lib.TickCounter;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * Direct mapped cache of block collision summaries used by motes while they are falling through the world.  Each
+ * slot records the block state along with the heights of the fluid surface and the top of the collision shape.  The
+ * entries are only valid for the tick in which they were gathered, so a mote never sees block data older than the
+ * current tick.  A slot collision simply replaces the older entry.
+ */
+@OnlyIn(Dist.CLIENT)
+final class CollisionCache {
+    private CollisionCache() {
+
+    }
+
+    private static final int SIZE = 1024;
+    private static final int MASK = SIZE - 1;
+
+    private static final long[] keys = new long[SIZE];
+    private static final int[] stamps = new int[SIZE];
+    private static final BlockState[] states = new BlockState[SIZE];
+    private static final double[] fluidHeight = new double[SIZE];
+    private static final double[] solidHeight = new double[SIZE];
+
+    private static IBlockReader world;
+    private static long tick = -1;
+    private static int stamp;
+
+    /**
+     * Locates the cache slot for the block at the specified position, gathering the block information if needed.
+     *
+     * @param reader World the mote is in
+     * @param pos Block position of the mote
+     * @return Slot index to use with the accessors
+     */
+    static int lookup(@Nonnull final IBlockReader reader, @Nonnull final BlockPos pos) {
+        final long tickCount = TickCounter.getTickCount();
+        if (tickCount != tick || reader != world) {
+            tick = tickCount;
+            world = reader;
+            if (++stamp == 0) {
+                Arrays.fill(stamps, 0);
+                stamp = 1;
+            }
+        }
+
+        final long key = pos.toLong();
+        final int slot = (int) HashCommon.mix(key) & MASK;
+        if (stamps[slot] != stamp || keys[slot] != key)
+            gather(slot, key, reader, pos);
+        return slot;
+    }
+
+    @Nonnull
+    static BlockState getState(final int slot) {
+        return states[slot];
+    }
+
+    /**
+     * Height of the fluid surface in the block, or NaN if there is no fluid.
+     */
+    static double getFluidHeight(final int slot) {
+        return fluidHeight[slot];
+    }
+
+    /**
+     * Height of the top of the block collision shape, or NaN if the block does not block movement.
+     */
+    static double getSolidHeight(final int slot) {
+        return solidHeight[slot];
+    }
+
+    private static void gather(final int slot, final long key, @Nonnull final IBlockReader reader, @Nonnull final BlockPos pos) {
+        final BlockState state = reader.getBlockState(pos);
+        double fluid = Double.NaN;
+        double solid = Double.NaN;
+
+        final Material material = state.getMaterial();
+        if (material != Material.AIR) {
+            final FluidState fluidState = state.getFluidState();
+            if (!fluidState.isEmpty())
+                fluid = fluidState.getActualHeight(reader, pos) + pos.getY();
+
+            if (material.blocksMovement()) {
+                final VoxelShape shape = state.getCollisionShape(reader, pos, ISelectionContext.dummy());
+                if (!shape.isEmpty())
+                    solid = shape.getEnd(Direction.Axis.Y) + pos.getY();
+            }
+        }
+
+        keys[slot] = key;
+        stamps[slot] = stamp;
+        states[slot] = state;
+        fluidHeight[slot] = fluid;
+        solidHeight[slot] = solid;
+    }
+}
@@ -21,11 +21,13 @@ package org.orecruncher.lib.particles;
 import net.minecraft.client.renderer.culling.ClippingHelper;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.util.math.vector.Vector4f;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.BitSet;
 
 @OnlyIn(Dist.CLIENT)
 public class FrustumHelper {
@@ -33,14 +35,47 @@ public class FrustumHelper {
 
     }
 
+    private static final int PLANE_COUNT = 6;
+
     private static ClippingHelper helper = null;
 
+    // Plane coefficients extracted from the clipping helper.  The planes are normalized and shifted to world space
+    // so a point test is a plain dot product with no camera offset or vector allocation.
+    private static final double[] planeX = new double[PLANE_COUNT];
+    private static final double[] planeY = new double[PLANE_COUNT];
+    private static final double[] planeZ = new double[PLANE_COUNT];
+    private static final double[] planeD = new double[PLANE_COUNT];
+
     /**
      * Called by a Mixin to set the current clipping helper
      * @param clippingHelper Current clipping helper
      */
     public static void setFrustum(@Nullable final ClippingHelper clippingHelper) {
         helper = clippingHelper;
+        if (clippingHelper != null)
+            extractPlanes(clippingHelper);
+    }
+
+    private static void extractPlanes(@Nonnull final ClippingHelper clippingHelper) {
+        final Vector4f[] frustum = clippingHelper.frustum;
+        for (int i = 0; i < PLANE_COUNT; i++) {
+            final Vector4f plane = frustum[i];
+            double a = plane.getX();
+            double b = plane.getY();
+            double c = plane.getZ();
+            double d = plane.getW();
+            final double length = Math.sqrt(a * a + b * b + c * c);
+            if (length > 0) {
+                a /= length;
+                b /= length;
+                c /= length;
+                d /= length;
+            }
+            planeX[i] = a;
+            planeY[i] = b;
+            planeZ[i] = c;
+            planeD[i] = d - (a * clippingHelper.cameraX + b * clippingHelper.cameraY + c * clippingHelper.cameraZ);
+        }
     }
 
     /**
@@ -49,12 +84,88 @@ public class FrustumHelper {
      * @return true if in the frustum, or there is no frustum, false otherwise
      */
     public static boolean isLocationInFrustum(@Nonnull final Vector3d pos) {
-        return isBoundingBoxInFrustum(new AxisAlignedBB(pos, pos));
+        return isLocationInFrustum(pos.x, pos.y, pos.z);
+    }
+
+    /**
+     * Determines if the position is within the frustum
+     * @return true if in the frustum, or there is no frustum, false otherwise
+     */
+    public static boolean isLocationInFrustum(final double x, final double y, final double z) {
+        return isSphereInFrustum(x, y, z, 0);
+    }
+
+    /**
+     * Determines if a sphere with the given center and radius is at least partially within the frustum
+     * @return true if in the frustum, or there is no frustum, false otherwise
+     */
+    public static boolean isSphereInFrustum(final double x, final double y, final double z, final double radius) {
+        if (helper == null)
+            return true;
+        for (int i = 0; i < PLANE_COUNT; i++)
+            if (planeX[i] * x + planeY[i] * y + planeZ[i] * z + planeD[i] + radius <= 0)
+                return false;
+        return true;
     }
 
     public static boolean isBoundingBoxInFrustum(@Nonnull final AxisAlignedBB bb) {
+        return isBoxInFrustum(bb.minX, bb.minY, bb.minZ, bb.maxX, bb.maxY, bb.maxZ);
+    }
+
+    /**
+     * Determines if the box described by the coordinates is at least partially within the frustum.  For each plane
+     * only the box corner furthest along the plane normal is tested.
+     * @return true if in the frustum, or there is no frustum, false otherwise
+     */
+    public static boolean isBoxInFrustum(final double minX, final double minY, final double minZ, final double maxX, final double maxY, final double maxZ) {
         if (helper == null)
             return true;
-        return helper.isBoundingBoxInFrustum(bb);
+        for (int i = 0; i < PLANE_COUNT; i++) {
+            final double a = planeX[i];
+            final double b = planeY[i];
+            final double c = planeZ[i];
+            final double x = a >= 0 ? maxX : minX;
+            final double y = b >= 0 ? maxY : minY;
+            final double z = c >= 0 ? maxZ : minZ;
+            if (a * x + b * y + c * z + planeD[i] <= 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Tests a batch of positions against the frustum, setting the corresponding bit in the result for each position
+     * that is visible.  Bits for positions that are not visible are cleared.
+     * @param x X coordinates of the positions to test
+     * @param y Y coordinates of the positions to test
+     * @param z Z coordinates of the positions to test
+     * @param count Number of positions to test, starting at index 0
+     * @param radius Radius around each position that counts as visible
+     * @param result Bit set to receive the visibility results
+     * @return The number of visible positions
+     */
+    public static int cull(@Nonnull final double[] x, @Nonnull final double[] y, @Nonnull final double[] z, final int count, final double radius, @Nonnull final BitSet result) {
+        result.clear();
+        if (count == 0)
+            return 0;
+        if (helper == null) {
+            result.set(0, count);
+            return count;
+        }
+
+        // Start with everything visible and knock out positions plane by plane.  Each pass is a tight loop over
+        // the primitive arrays with the plane coefficients held in locals.
+        result.set(0, count);
+        for (int p = 0; p < PLANE_COUNT; p++) {
+            final double a = planeX[p];
+            final double b = planeY[p];
+            final double c = planeZ[p];
+            final double d = planeD[p] + radius;
+            for (int i = result.nextSetBit(0); i >= 0; i = result.nextSetBit(i + 1)) {
+                if (a * x[i] + b * y[i] + c * z[i] + d <= 0)
+                    result.clear(i);
+            }
+        }
+        return result.cardinality();
     }
 }
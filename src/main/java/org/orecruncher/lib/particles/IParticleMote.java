@@ -48,6 +48,20 @@ public interface IParticleMote {
      */
     boolean tick();
 
+    /**
+     * Causes the mote to update advancing it's state the specified number of ticks.  Used when a mote is updated at
+     * a reduced rate so that it ages and moves as if it had been ticked every tick.
+     *
+     * @param steps Number of ticks to advance
+     * @return true if the particle has been ticked; false if it should die
+     */
+    boolean tick(int steps);
+
+    /**
+     * Called by the owning collection after a dead mote has been removed so that it can be recycled.
+     */
+    void release();
+
     /**
      * Causes the mote to render itself.
      */
@@ -60,4 +74,25 @@ public interface IParticleMote {
     @Nonnull
     Vector3d getPosition();
 
+    /**
+     * Obtains the X coordinate of the mote's current position without having to create a vector.
+     *
+     * @return X coordinate of the mote
+     */
+    double getX();
+
+    /**
+     * Obtains the Y coordinate of the mote's current position without having to create a vector.
+     *
+     * @return Y coordinate of the mote
+     */
+    double getY();
+
+    /**
+     * Obtains the Z coordinate of the mote's current position without having to create a vector.
+     *
+     * @return Z coordinate of the mote
+     */
+    double getZ();
+
 }
\ No newline at end of file
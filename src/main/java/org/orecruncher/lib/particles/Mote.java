@@ -34,8 +34,11 @@ import javax.annotation.Nonnull;
 @OnlyIn(Dist.CLIENT)
 public abstract class Mote implements IParticleMote {
 
-    protected final IBlockReader world;
-    protected final IWorldReader lighting;
+    protected IBlockReader world;
+    protected IWorldReader lighting;
+
+    // Pool the mote was obtained from, if any
+    MotePool<?> pool;
 
     protected boolean isAlive = true;
     protected double posX;
@@ -50,9 +53,21 @@ public abstract class Mote implements IParticleMote {
     protected float blue;
     protected float alpha;
 
+    protected Mote() {
+
+    }
+
     public Mote(@Nonnull final IBlockReader world, final double x, final double y, final double z) {
+        initMote(world, x, y, z);
+    }
+
+    /**
+     * Initializes the base state of the mote.  Pooled motes are reinitialized through here when they are reused.
+     */
+    protected final void initMote(@Nonnull final IBlockReader world, final double x, final double y, final double z) {
         this.world = world;
         this.lighting = world instanceof IWorldReader ? (IWorldReader) world : GameUtils.getWorld();
+        this.isAlive = true;
         setPosition(x, y, z);
         configureColor();
     }
@@ -69,6 +84,21 @@ public abstract class Mote implements IParticleMote {
         return new Vector3d(this.posX, this.posY, this.posZ);
     }
 
+    @Override
+    public double getX() {
+        return this.posX;
+    }
+
+    @Override
+    public double getY() {
+        return this.posY;
+    }
+
+    @Override
+    public double getZ() {
+        return this.posZ;
+    }
+
     public void configureColor() {
         this.red = this.green = this.blue = this.alpha = 1F;
     }
@@ -83,11 +113,22 @@ public abstract class Mote implements IParticleMote {
         this.isAlive = false;
     }
 
+    @Override
+    public void release() {
+        if (this.pool != null)
+            this.pool.recycle(this);
+    }
+
     @Override
     public boolean tick() {
+        return tick(1);
+    }
+
+    @Override
+    public boolean tick(final int steps) {
         if (isAlive()) {
 
-            update();
+            update(steps);
 
             // The update() may have killed the mote
             if (isAlive()) {
@@ -98,7 +139,13 @@ public abstract class Mote implements IParticleMote {
         return isAlive();
     }
 
-    protected void update() {
+    /**
+     * Updates the state of the mote.  A mote that is updated at a reduced rate covers several ticks in a single call,
+     * and should advance its state as if it had been updated each of those ticks.
+     *
+     * @param steps Number of ticks the update covers
+     */
+    protected void update(final int steps) {
 
     }
 
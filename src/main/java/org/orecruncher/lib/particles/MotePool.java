@@ -0,0 +1,103 @@
+/*
+ * Dynamic Surroundings: Sound Control
+ * Copyright (C) 2020  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.lib.particles;
+
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import org.orecruncher.sndctrl.config.Config;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Free list of motes of a single type.  Motes obtained from the pool are handed back by their collection when they
+ * die, and are reinitialized by the caller on the next acquire.  The number of motes held is bounded by the config
+ * setting; motes released once the pool is full are left for the garbage collector.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class MotePool<T extends Mote> {
+
+    private final String name;
+    private final Supplier<T> factory;
+    private Mote[] free = new Mote[16];
+    private int count;
+    private int limit = -1;
+
+    private int created;
+    private int reused;
+    private int discarded;
+
+    MotePool(@Nonnull final String name, @Nonnull final Supplier<T> factory) {
+        this.name = name;
+        this.factory = factory;
+    }
+
+    @Nonnull
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * Obtains a mote from the pool, creating a new one if the pool is empty.  The caller is responsible for
+     * initializing the mote before use.
+     *
+     * @return Mote instance ready to be initialized
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        final T mote;
+        if (this.count > 0) {
+            mote = (T) this.free[--this.count];
+            this.free[this.count] = null;
+            this.reused++;
+        } else {
+            mote = this.factory.get();
+            this.created++;
+        }
+        mote.pool = this;
+        return mote;
+    }
+
+    void recycle(@Nonnull final Mote mote) {
+        mote.pool = null;
+        if (this.limit < 0)
+            this.limit = Config.CLIENT.effects.motePoolSize.get();
+        if (this.count >= this.limit) {
+            this.discarded++;
+            return;
+        }
+        if (this.count == this.free.length)
+            this.free = Arrays.copyOf(this.free, Math.min(this.free.length * 2, Math.max(this.limit, 16)));
+        this.free[this.count++] = mote;
+    }
+
+    void clear() {
+        Arrays.fill(this.free, 0, this.count, null);
+        this.count = 0;
+        this.limit = -1;
+    }
+
+    @Override
+    @Nonnull
+    public String toString() {
+        return String.format("%s pool: %d free, %d created, %d reused, %d discarded", this.name, this.count, this.created, this.reused, this.discarded);
+    }
+}
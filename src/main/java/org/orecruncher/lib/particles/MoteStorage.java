@@ -0,0 +1,173 @@
+/*
+ * Dynamic Surroundings
+ * Copyright (C) 2020  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.lib.particles;
+
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Dense storage for the motes in a collection.  The mote references are held in an array along with a parallel cache
+ * of the position of each mote as of its last update.  The cache exists so that loops that need positions, like culling
+ * and level of detail distance checks, can run over primitive arrays without touching the mote objects.  When a mote
+ * dies the last entry is swapped into its slot so the arrays stay dense.
+ * <p>
+ * This is not a full struct-of-arrays layout.  Motion, age and color stay with the motes because each mote type has
+ * its own update behavior, such as collision splashes, ripple growth, and footprint block checks, so updating a mote
+ * remains a call on the mote object.  MoteStorageBenchmark measures the tick loop headlessly.
+ * <p>
+ * Each mote is assigned an update phase when it is added, and the storage tick of its last update is tracked.  The
+ * phase travels with the mote when it is moved, so far motes that are updated at a reduced rate stay spread across
+ * the interval, and are advanced by the number of ticks they missed when they are updated.
+ */
+@OnlyIn(Dist.CLIENT)
+final class MoteStorage {
+
+    private IParticleMote[] motes;
+    private double[] posX;
+    private double[] posY;
+    private double[] posZ;
+    private int[] phase;
+    private long[] lastTick;
+    private int size;
+    private int nextPhase;
+    private long ticks;
+
+    MoteStorage(final int capacity) {
+        this.motes = new IParticleMote[capacity];
+        this.posX = new double[capacity];
+        this.posY = new double[capacity];
+        this.posZ = new double[capacity];
+        this.phase = new int[capacity];
+        this.lastTick = new long[capacity];
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    @Nonnull
+    public IParticleMote get(final int idx) {
+        return this.motes[idx];
+    }
+
+    public double getX(final int idx) {
+        return this.posX[idx];
+    }
+
+    public double getY(final int idx) {
+        return this.posY[idx];
+    }
+
+    public double getZ(final int idx) {
+        return this.posZ[idx];
+    }
+
+    public void add(@Nonnull final IParticleMote mote) {
+        if (this.size == this.motes.length)
+            grow();
+        final int idx = this.size++;
+        this.motes[idx] = mote;
+        this.phase[idx] = this.nextPhase;
+        this.lastTick[idx] = this.ticks;
+        this.nextPhase = (this.nextPhase + 1) & Integer.MAX_VALUE;
+        capture(idx);
+    }
+
+    /**
+     * Ticks the motes in storage, but motes further than the specified range from the origin are only ticked once
+     * every interval ticks.  The far motes are spread across the interval by their phase so they do not all update
+     * on the same tick.  When a mote is ticked it is advanced by the number of ticks since its last update so that
+     * aging and motion proceed at the same rate regardless of distance.
+     *
+     * @param interval Number of ticks between updates of far motes
+     * @param x X coordinate of the origin
+     * @param y Y coordinate of the origin
+     * @param z Z coordinate of the origin
+     * @param rangeSq Square of the distance at which motes are considered far
+     */
+    public void tick(final int interval, final double x, final double y, final double z, final double rangeSq) {
+        final long tick = ++this.ticks;
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (interval > 1 && (tick + this.phase[i]) % interval != 0) {
+                final double dX = this.posX[i] - x;
+                final double dY = this.posY[i] - y;
+                final double dZ = this.posZ[i] - z;
+                if (dX * dX + dY * dY + dZ * dZ > rangeSq)
+                    continue;
+            }
+            final int steps = (int) (tick - this.lastTick[i]);
+            this.lastTick[i] = tick;
+            if (this.motes[i].tick(steps))
+                capture(i);
+            else
+                remove(i);
+        }
+    }
+
+    /**
+     * Determines which motes are visible based on their captured positions.
+     *
+     * @param radius Radius around each mote position that counts as visible
+     * @param visible Bit set that receives the visibility of each mote by index
+     * @return The number of visible motes
+     */
+    public int cull(final double radius, @Nonnull final BitSet visible) {
+        return FrustumHelper.cull(this.posX, this.posY, this.posZ, this.size, radius, visible);
+    }
+
+    public void clear() {
+        Arrays.fill(this.motes, 0, this.size, null);
+        this.size = 0;
+    }
+
+    private void capture(final int idx) {
+        final IParticleMote mote = this.motes[idx];
+        this.posX[idx] = mote.getX();
+        this.posY[idx] = mote.getY();
+        this.posZ[idx] = mote.getZ();
+    }
+
+    private void remove(final int idx) {
+        this.motes[idx].release();
+        final int last = --this.size;
+        if (idx < last) {
+            this.motes[idx] = this.motes[last];
+            this.posX[idx] = this.posX[last];
+            this.posY[idx] = this.posY[last];
+            this.posZ[idx] = this.posZ[last];
+            this.phase[idx] = this.phase[last];
+            this.lastTick[idx] = this.lastTick[last];
+        }
+        this.motes[last] = null;
+    }
+
+    private void grow() {
+        final int capacity = Math.max(this.motes.length * 2, 16);
+        this.motes = Arrays.copyOf(this.motes, capacity);
+        this.posX = Arrays.copyOf(this.posX, capacity);
+        this.posY = Arrays.copyOf(this.posY, capacity);
+        this.posZ = Arrays.copyOf(this.posZ, capacity);
+        this.phase = Arrays.copyOf(this.phase, capacity);
+        this.lastTick = Arrays.copyOf(this.lastTick, capacity);
+    }
+}
@@ -21,19 +21,15 @@ package org.orecruncher.lib.particles;
 import javax.annotation.Nonnull;
 
 import net.minecraft.block.BlockState;
-import net.minecraft.block.material.Material;
 import net.minecraft.client.renderer.ActiveRenderInfo;
 import net.minecraft.fluid.FluidState;
-import net.minecraft.util.Direction;
+import net.minecraft.fluid.Fluids;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.vector.Vector3d;
-import net.minecraft.util.math.shapes.ISelectionContext;
-import net.minecraft.util.math.shapes.VoxelShape;
 import net.minecraft.world.IBlockReader;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
-
-import java.util.Optional;
+import org.orecruncher.lib.TickCounter;
 
 /**
  * A particle that is capable of moving it's position in the world.
@@ -41,18 +37,46 @@ import java.util.Optional;
 @OnlyIn(Dist.CLIENT)
 public abstract class MotionMote extends AgeableMote {
 
+	private static final double DRAG = 0.9800000190734863D;
+
 	protected double motionX;
 	protected double motionY;
 	protected double motionZ;
 	protected double gravity;
 
+	// Applied to the motion each tick before it moves the mote
+	protected double xAcceleration;
+	protected double yAcceleration;
+	protected double zAcceleration;
+	protected double baseAirFriction;
+
 	protected double prevX;
 	protected double prevY;
 	protected double prevZ;
 
+	// Tick of the last update and the number of ticks it covered.  Rendering interpolates across the span so that
+	// motes updated at a reduced rate move smoothly rather than jumping.
+	protected long updateTick;
+	protected int updateSpan;
+
+	// Information about the last collision detected
+	protected double collisionY;
+	protected BlockState collisionState;
+	protected FluidState collisionFluid;
+	protected boolean collisionOnGround;
+
+	protected MotionMote() {
+
+	}
+
 	protected MotionMote(@Nonnull final IBlockReader world, final double x, final double y, final double z,
 						 final double dX, final double dY, final double dZ) {
-		super(world, x, y, z);
+		initMotion(world, x, y, z, dX, dY, dZ);
+	}
+
+	protected final void initMotion(@Nonnull final IBlockReader world, final double x, final double y, final double z,
+									final double dX, final double dY, final double dZ) {
+		initAgeable(world, x, y, z);
 		this.prevX = this.posX;
 		this.prevY = this.posY;
 		this.prevZ = this.posZ;
@@ -60,107 +84,161 @@ public abstract class MotionMote extends AgeableMote {
 		this.motionY = dY;
 		this.motionZ = dZ;
 		this.gravity = 0.06D;
+		this.xAcceleration = this.yAcceleration = this.zAcceleration = 0D;
+		this.baseAirFriction = 1D;
+		this.updateTick = TickCounter.getTickCount();
+		this.updateSpan = 1;
+	}
+
+	@Override
+	public boolean tick(final int steps) {
+		final double x = this.posX;
+		final double y = this.posY;
+		final double z = this.posZ;
+		final boolean alive = super.tick(steps);
+		this.prevX = x;
+		this.prevY = y;
+		this.prevZ = z;
+		this.updateTick = TickCounter.getTickCount();
+		this.updateSpan = steps;
+		return alive;
+	}
+
+	/**
+	 * Determines how far along the mote is between its previous and current position for rendering.
+	 */
+	protected float interpolate(final float partialTicks) {
+		final float elapsed = (TickCounter.getTickCount() - this.updateTick) + partialTicks;
+		return Math.min(elapsed / this.updateSpan, 1F);
 	}
 
 	@Override
 	protected float renderX(ActiveRenderInfo info, final float partialTicks) {
-		return (float)(MathHelper.lerp(partialTicks, this.prevX, this.posX) - info.getProjectedView().getX());
+		return (float)(MathHelper.lerp(interpolate(partialTicks), this.prevX, this.posX) - info.getProjectedView().getX());
 	}
 
 	@Override
 	protected float renderY(ActiveRenderInfo info, final float partialTicks) {
-		return (float)(MathHelper.lerp(partialTicks, this.prevY, this.posY) - info.getProjectedView().getY());
+		return (float)(MathHelper.lerp(interpolate(partialTicks), this.prevY, this.posY) - info.getProjectedView().getY());
 	}
 
 	@Override
 	protected float renderZ(ActiveRenderInfo info, final float partialTicks) {
-		return (float)(MathHelper.lerp(partialTicks, this.prevZ, this.posZ) - info.getProjectedView().getZ());
+		return (float)(MathHelper.lerp(interpolate(partialTicks), this.prevZ, this.posZ) - info.getProjectedView().getZ());
 	}
 
 	/**
-	 * Detects when a particle collides with a non-air block.  Override to provide custom detection logic.
+	 * Detects when a particle collides with a non-air block.  Override to provide custom detection logic.  When a
+	 * collision is detected the collision fields are set to describe it.
 	 *
-	 * @return Instance containing collision information if the mote collided
+	 * @return true if the mote collided, false otherwise
 	 */
-	@Nonnull
-	protected Optional<ParticleCollisionResult> detectCollision() {
-		final BlockState state = this.world.getBlockState(this.position);
-
-		// Air does not collide
-		if (state.getMaterial() == Material.AIR)
-			return Optional.empty();
-
-		// Check fluid state because the particle could have landed in fluid
-		final FluidState fluid = state.getFluidState();
-		if (!fluid.isEmpty()) {
-			// Potential of collision with a liquid
-			final double height = fluid.getActualHeight(this.world, this.position) + this.position.getY();
-			if (height >= this.posY) {
-				// Hit the surface of liquid
-				return Optional.of(new ParticleCollisionResult(
-						this.world,
-						new Vector3d(this.posX, height, this.posZ),
-						state,
-						false,
-						fluid
-				));
-			}
+	protected boolean detectCollision() {
+		final int slot = CollisionCache.lookup(this.world, this.position);
+
+		// Potential of collision with a liquid.  Heights are NaN when there is nothing to collide with, and NaN
+		// never compares as greater.
+		final double fluidHeight = CollisionCache.getFluidHeight(slot);
+		if (fluidHeight >= this.posY) {
+			// Hit the surface of liquid
+			final BlockState state = CollisionCache.getState(slot);
+			setCollision(fluidHeight, state, false, state.getFluidState());
+			return true;
 		}
 
 		// If the current position blocks movement then it will block a particle
-		if (state.getMaterial().blocksMovement()) {
-			final VoxelShape shape = state.getCollisionShape(this.world, this.position, ISelectionContext.dummy());
-			if (!shape.isEmpty()) {
-				final double height = shape.getEnd(Direction.Axis.Y) + this.position.getY();
-				if (height >= this.posY) {
-					// Have a collision
-					return Optional.of(new ParticleCollisionResult(
-							this.world,
-							new Vector3d(this.posX, height, this.posZ),
-							state,
-							true,
-							null
-					));
-				}
-			}
-			// Hasn't collided yet
-			return Optional.empty();
+		final double solidHeight = CollisionCache.getSolidHeight(slot);
+		if (solidHeight >= this.posY) {
+			// Have a collision
+			setCollision(solidHeight, CollisionCache.getState(slot), true, Fluids.EMPTY.getDefaultState());
+			return true;
 		}
 
-		return Optional.empty();
+		return false;
+	}
+
+	protected final void setCollision(final double y, @Nonnull final BlockState state, final boolean onGround, @Nonnull final FluidState fluid) {
+		this.collisionY = y;
+		this.collisionState = state;
+		this.collisionOnGround = onGround;
+		this.collisionFluid = fluid;
 	}
 
 	/**
-	 * Handles what happens when a collision is detected.  Default implemetnation will kill the mote.
+	 * Creates a result instance describing the last collision that was detected.  Only needed by handlers that pass
+	 * the collision on to code outside of the mote.
 	 *
-	 * @param collision Instance containing the collision information.
+	 * @return Instance containing the collision information
 	 */
-	protected void handleCollision(@Nonnull final ParticleCollisionResult collision) {
+	@Nonnull
+	protected ParticleCollisionResult getCollisionResult() {
+		return new ParticleCollisionResult(
+				this.world,
+				new Vector3d(this.posX, this.collisionY, this.posZ),
+				this.collisionState,
+				this.collisionOnGround,
+				this.collisionFluid
+		);
+	}
+
+	/**
+	 * Handles what happens when a collision is detected.  Default implemetnation will kill the mote.  The collision
+	 * fields describe the collision.
+	 */
+	protected void handleCollision() {
 		kill();
 	}
 
+	/**
+	 * Each tick the acceleration is added to the motion and the air friction applied, gravity is taken off, the mote
+	 * moves by the motion, and drag is applied.  That is a linear recurrence, so an update covering several ticks
+	 * sums the movement in closed form and probes for a collision once at the final position rather than iterating.
+	 */
 	@Override
-	protected void update() {
+	protected void update(final int steps) {
 
 		this.prevX = this.posX;
 		this.prevY = this.posY;
 		this.prevZ = this.posZ;
-		this.motionY -= this.gravity;
 
-		this.posX += this.motionX;
-		this.posY += this.motionY;
-		this.posZ += this.motionZ;
+		final double rate = DRAG * this.baseAirFriction;
+		final double rateLast = steps == 1 ? 1D : Math.pow(rate, steps - 1);
+		final double rateSteps = rateLast * rate;
+
+		this.posX += distance(this.motionX, this.xAcceleration, steps, rate, rateSteps);
+		this.posY += distance(this.motionY, this.yAcceleration - this.gravity / this.baseAirFriction, steps, rate, rateSteps);
+		this.posZ += distance(this.motionZ, this.zAcceleration, steps, rate, rateSteps);
+
+		// Motion during the last tick, before drag
+		this.motionX = lastMotion(this.motionX, this.xAcceleration, rate, rateLast);
+		this.motionY = lastMotion(this.motionY, this.yAcceleration - this.gravity / this.baseAirFriction, rate, rateLast);
+		this.motionZ = lastMotion(this.motionZ, this.zAcceleration, rate, rateLast);
 
 		this.position.setPos(this.posX, this.posY, this.posZ);
 
-		final Optional<ParticleCollisionResult> result = detectCollision();
-		if (result.isPresent()) {
-			handleCollision(result.get());
+		if (detectCollision()) {
+			handleCollision();
 		} else {
-			this.motionX *= 0.9800000190734863D;
-			this.motionY *= 0.9800000190734863D;
-			this.motionZ *= 0.9800000190734863D;
+			this.motionX *= DRAG;
+			this.motionY *= DRAG;
+			this.motionZ *= DRAG;
 		}
 	}
 
+	// Motion at the start of tick k is m(k) = s + rate^k * (m - s), where s is the steady state motion.  The mote
+	// moves by friction * (m(k) + accel) each tick.  Gravity is folded into accel by the callers.
+	private double steadyState(final double accel, final double rate) {
+		return DRAG * this.baseAirFriction * accel / (1D - rate);
+	}
+
+	private double distance(final double motion, final double accel, final int steps, final double rate, final double rateSteps) {
+		final double s = steadyState(accel, rate);
+		return this.baseAirFriction * (steps * s + (motion - s) * (1D - rateSteps) / (1D - rate) + steps * accel);
+	}
+
+	private double lastMotion(final double motion, final double accel, final double rate, final double rateLast) {
+		final double s = steadyState(accel, rate);
+		return this.baseAirFriction * (s + rateLast * (motion - s) + accel);
+	}
+
 }
@@ -26,12 +26,11 @@ import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 import org.orecruncher.lib.GameUtils;
 import org.orecruncher.lib.TickCounter;
-import org.orecruncher.lib.collections.ObjectArray;
 import org.orecruncher.lib.math.LoggingTimerEMA;
 import org.orecruncher.lib.math.TimerEMA;
 
 import javax.annotation.Nonnull;
-import java.util.function.Predicate;
+import java.util.BitSet;
 
 @OnlyIn(Dist.CLIENT)
 final class ParticleCollection extends BaseParticle {
@@ -40,14 +39,12 @@ final class ParticleCollection extends BaseParticle {
     protected static final int MAX_PARTICLES = 4000;
     protected static final int ALLOCATION_SIZE = 128;
     protected static final int TICK_GRACE = 2;
-    /**
-     * Predicate used to update a mote and return whether it is dead or not.
-     */
-    private static final Predicate<IParticleMote> UPDATE_REMOVE = mote -> !mote.tick();
+    protected static final double CULL_RADIUS = 0.5D;
 
     protected final LoggingTimerEMA render;
     protected final LoggingTimerEMA tick;
-    protected final ObjectArray<IParticleMote> myParticles = new ObjectArray<>(ALLOCATION_SIZE);
+    protected final MoteStorage myParticles = new MoteStorage(ALLOCATION_SIZE);
+    protected final BitSet visible = new BitSet(ALLOCATION_SIZE);
     protected final IParticleRenderType renderType;
     protected long lastTickUpdate;
 
@@ -62,7 +59,7 @@ final class ParticleCollection extends BaseParticle {
     }
 
     public boolean canFit() {
-        return this.myParticles.size() < MAX_PARTICLES;
+        return this.myParticles.size() < CollectionManager.getParticleCap(MAX_PARTICLES);
     }
 
     public void addParticle(@Nonnull final IParticleMote mote) {
@@ -95,7 +92,12 @@ final class ParticleCollection extends BaseParticle {
         this.tick.begin();
         if (isAlive()) {
             this.lastTickUpdate = TickCounter.getTickCount();
-            this.myParticles.removeIf(UPDATE_REMOVE);
+            this.myParticles.tick(
+                    CollectionManager.getFarTickInterval(),
+                    CollectionManager.getCameraX(),
+                    CollectionManager.getCameraY(),
+                    CollectionManager.getCameraZ(),
+                    CollectionManager.FAR_RANGE_SQ);
             if (shouldDie()) {
                 setExpired();
             }
@@ -111,9 +113,10 @@ final class ParticleCollection extends BaseParticle {
     @Override
     public void renderParticle(@Nonnull final IVertexBuilder buffer, @Nonnull final ActiveRenderInfo renderInfo, final float partialTicks) {
         this.render.begin();
-        for (final IParticleMote mote : this.myParticles)
-            if (FrustumHelper.isLocationInFrustum(mote.getPosition()))
-                mote.renderParticle(buffer, renderInfo, partialTicks);
+        if (this.myParticles.cull(CULL_RADIUS, this.visible) > 0) {
+            for (int i = this.visible.nextSetBit(0); i >= 0; i = this.visible.nextSetBit(i + 1))
+                this.myParticles.get(i).renderParticle(buffer, renderInfo, partialTicks);
+        }
         this.render.end();
     }
 
@@ -98,6 +98,16 @@ final class ParticleCollectionHelper implements IParticleCollection {
         return resolve().map(ParticleCollection::getTickTimer);
     }
 
+    /**
+     * Gets the combined render and tick time of the collection in milliseconds
+     */
+    double getMSecs() {
+        final ParticleCollection pc = this.collection != null ? this.collection.get() : null;
+        if (pc == null || !pc.isAlive())
+            return 0;
+        return pc.getRenderTimer().getMSecs() + pc.getTickTimer().getMSecs();
+    }
+
     @Nonnull
     private Optional<ParticleCollection> resolve() {
         return Optional.ofNullable(this.collection != null ? this.collection.get() : null);
@@ -25,6 +25,7 @@ import org.orecruncher.lib.logging.IModLog;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.script.*;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -62,6 +63,19 @@ public final class ExecutionContext {
         this.engine.put(varSet.getSetName(), varSet.getInterface());
     }
 
+    @Nullable
+    public VariableSet<?> getVariableSet(@Nonnull final String name) {
+        for (final VariableSet<?> set : this.variables)
+            if (set.getSetName().equals(name))
+                return set;
+        return null;
+    }
+
+    @Nonnull
+    public Collection<VariableSet<?>> getVariableSets() {
+        return this.variables;
+    }
+
     public String getName() {
         return this.contextName;
     }
@@ -18,6 +18,8 @@
 
 package org.orecruncher.lib.scripting;
 
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
 import javax.annotation.Nonnull;
 
 /**
@@ -25,6 +27,15 @@ import javax.annotation.Nonnull;
  * and mod data safely.  For example, data related to the player can be encapsulated into a player data variable set,
  * and have that data updated once per tick.  This ticking allows for the calculation and caching of values that are
  * expensive to calculate and reused repeatedly through the tick.
+ * <p>
+ * A set tracks a version stamp that is bumped whenever its state changes during an update.  Consumers, like a
+ * condition result cache, can compare version stamps to determine if a previously calculated result is still valid.
+ * Versions can be tracked at the member level so that a change to one value does not invalidate results that depend
+ * on other members of the same set.
+ * <p>
+ * Primitive values can be held in {@link BooleanValue}, {@link IntValue}, and {@link FloatValue} slots.  Setting a slot
+ * to a new value marks the associated members as changed, and setting it to the same value does nothing.  This avoids
+ * having to box values or compare them by hand during an update.
  *
  * @param <T>
  */
@@ -32,6 +43,8 @@ public abstract class VariableSet<T> {
 
     @Nonnull
     private final String setName;
+    private final Object2IntOpenHashMap<String> memberVersions = new Object2IntOpenHashMap<>();
+    private int version;
 
     protected VariableSet(@Nonnull final String setName) {
         this.setName = setName;
@@ -46,6 +59,151 @@ public abstract class VariableSet<T> {
 
     }
 
+    /**
+     * Gets the current version of the set.  The version changes whenever any member of the set changes.
+     *
+     * @return Version stamp of the set
+     */
+    public int getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Gets the current version of the specified member.  Members that are not specifically tracked report the version
+     * of the set as a whole.
+     *
+     * @param member Name of the member as referenced by a script (getX(), isX(), or x)
+     * @return Version stamp of the member
+     */
+    public int getVersion(@Nonnull final String member) {
+        return getVersionForKey(memberKey(member));
+    }
+
+    /**
+     * Gets the current version of the member with the specified key.  Callers that check a member repeatedly can
+     * normalize the name once with {@link #memberKey(String)} and use this to avoid doing it on every check.
+     *
+     * @param key Normalized key of the member
+     * @return Version stamp of the member
+     */
+    public int getVersionForKey(@Nonnull final String key) {
+        return this.memberVersions.getOrDefault(key, this.version);
+    }
+
+    /**
+     * Registers members whose changes will be reported individually through {@link #changed(String...)}.  Members
+     * that are not registered report the version of the set as a whole.
+     *
+     * @param members Names of the members to track
+     */
+    protected void track(@Nonnull final String... members) {
+        for (final String m : members)
+            this.memberVersions.put(memberKey(m), this.version);
+    }
+
+    /**
+     * Indicates that the state of the set changed in an unspecified way.  All members that are not being tracked are
+     * considered changed.
+     */
+    protected void changed() {
+        this.version++;
+    }
+
+    /**
+     * Indicates that the specified members of the set changed.  Members that are not being tracked are considered
+     * changed as well.
+     *
+     * @param members Names of the members that changed
+     */
+    protected void changed(@Nonnull final String... members) {
+        changedKeys(memberKeys(members));
+    }
+
+    /**
+     * Indicates that the members with the specified keys changed.  Sets that report the same members every tick
+     * should normalize the keys once with {@link #memberKeys(String...)} and use this instead of
+     * {@link #changed(String...)}.
+     *
+     * @param keys Normalized keys of the members that changed
+     */
+    protected void changedKeys(@Nonnull final String[] keys) {
+        this.version++;
+        for (final String k : keys)
+            this.memberVersions.put(k, this.version);
+    }
+
+    /**
+     * Creates a boolean slot whose changes are reported against the specified members.
+     *
+     * @param initial Initial value of the slot
+     * @param members Names of the members that are affected when the value changes
+     * @return Slot for the value
+     */
+    @Nonnull
+    protected BooleanValue booleanValue(final boolean initial, @Nonnull final String... members) {
+        track(members);
+        return new BooleanValue(initial, memberKeys(members));
+    }
+
+    /**
+     * Creates an int slot whose changes are reported against the specified members.
+     *
+     * @param initial Initial value of the slot
+     * @param members Names of the members that are affected when the value changes
+     * @return Slot for the value
+     */
+    @Nonnull
+    protected IntValue intValue(final int initial, @Nonnull final String... members) {
+        track(members);
+        return new IntValue(initial, memberKeys(members));
+    }
+
+    /**
+     * Creates a float slot whose changes are reported against the specified members.
+     *
+     * @param initial Initial value of the slot
+     * @param members Names of the members that are affected when the value changes
+     * @return Slot for the value
+     */
+    @Nonnull
+    protected FloatValue floatValue(final float initial, @Nonnull final String... members) {
+        track(members);
+        return new FloatValue(initial, memberKeys(members));
+    }
+
+    /**
+     * Normalizes a member name so that the accessor form and the property form of a member resolve to the same key.
+     * For example, "getTemperature" and "temperature" both resolve to "temperature".
+     *
+     * @param member Name of the member
+     * @return Normalized key for the member
+     */
+    @Nonnull
+    public static String memberKey(@Nonnull final String member) {
+        int prefix = 0;
+        if (member.startsWith("get"))
+            prefix = 3;
+        else if (member.startsWith("is"))
+            prefix = 2;
+        if (prefix == 0 || member.length() == prefix || !Character.isUpperCase(member.charAt(prefix)))
+            return member;
+        return Character.toLowerCase(member.charAt(prefix)) + member.substring(prefix + 1);
+    }
+
+    /**
+     * Normalizes a list of member names.
+     *
+     * @param members Names of the members
+     * @return Normalized keys for the members
+     */
+    @Nonnull
+    public static String[] memberKeys(@Nonnull final String... members) {
+        final String[] keys = new String[members.length];
+        for (int i = 0; i < members.length; i++)
+            keys[i] = memberKey(members[i]);
+        return keys;
+    }
+
     /**
      * Produces a class instance that will be inserted into the JavaScript runtime so that scripts can access.  The
      * class should only have accessors on the interface and avoid state changing methods.
@@ -55,4 +213,66 @@ public abstract class VariableSet<T> {
     @Nonnull
     public abstract T getInterface();
 
+    protected final class BooleanValue {
+        private final String[] keys;
+        private boolean value;
+
+        private BooleanValue(final boolean initial, @Nonnull final String[] keys) {
+            this.value = initial;
+            this.keys = keys;
+        }
+
+        public boolean get() {
+            return this.value;
+        }
+
+        public void set(final boolean value) {
+            if (this.value != value) {
+                this.value = value;
+                changedKeys(this.keys);
+            }
+        }
+    }
+
+    protected final class IntValue {
+        private final String[] keys;
+        private int value;
+
+        private IntValue(final int initial, @Nonnull final String[] keys) {
+            this.value = initial;
+            this.keys = keys;
+        }
+
+        public int get() {
+            return this.value;
+        }
+
+        public void set(final int value) {
+            if (this.value != value) {
+                this.value = value;
+                changedKeys(this.keys);
+            }
+        }
+    }
+
+    protected final class FloatValue {
+        private final String[] keys;
+        private float value;
+
+        private FloatValue(final float initial, @Nonnull final String[] keys) {
+            this.value = initial;
+            this.keys = keys;
+        }
+
+        public float get() {
+            return this.value;
+        }
+
+        public void set(final float value) {
+            if (Float.compare(this.value, value) != 0) {
+                this.value = value;
+                changedKeys(this.keys);
+            }
+        }
+    }
 }
@@ -83,6 +83,7 @@ public class BiomeVariables extends VariableSet<IBiomeVariables> implements IBio
             this.traits.reset();
             this.biomeTraits.reset();
             this.biomeTraitNames.reset();
+            changed();
         }
     }
 
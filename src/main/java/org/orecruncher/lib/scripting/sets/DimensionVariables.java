@@ -48,6 +48,9 @@ public class DimensionVariables extends VariableSet<IDimensionVariables> impleme
 
     @Override
     public void update() {
+        final String oldId = this.id;
+        final boolean oldSuperFlat = this.isSuperFlat;
+
         if (GameUtils.isInGame()) {
             assert GameUtils.getWorld() != null;
             final DimensionType dim = GameUtils.getWorld().getDimensionType();
@@ -62,6 +65,9 @@ public class DimensionVariables extends VariableSet<IDimensionVariables> impleme
             this.name = "UNKNOWN";
             this.isSuperFlat = false;
         }
+
+        if (!this.id.equals(oldId) || this.isSuperFlat != oldSuperFlat)
+            changed();
     }
 
     @Override
@@ -29,16 +29,19 @@ import javax.annotation.Nonnull;
 @OnlyIn(Dist.CLIENT)
 public class DiurnalCycleVariables extends VariableSet<IDiurnalCycle> implements IDiurnalCycle {
 
-    private final LazyVariable<Float> moonPhaseFactor = new LazyVariable<>(() -> GameUtils.isInGame() ? DayCycle.getMoonPhaseFactor(GameUtils.getWorld()) : 0F);
-    private final LazyVariable<Float> celestialAngle = new LazyVariable<>(() -> GameUtils.isInGame() ? GameUtils.getWorld().func_242415_f(0F) : 0F);
-    private boolean isAuroraVisible;
-    private boolean isDay;
-    private boolean isNight;
-    private boolean isSunrise;
-    private boolean isSunset;
+    private static final String[] DRIFTING = memberKeys("getMoonPhaseFactor", "getCelestialAngle");
+
+    private final LazyFloat moonPhaseFactor = new LazyFloat(() -> GameUtils.isInGame() ? DayCycle.getMoonPhaseFactor(GameUtils.getWorld()) : 0F);
+    private final LazyFloat celestialAngle = new LazyFloat(() -> GameUtils.isInGame() ? GameUtils.getWorld().func_242415_f(0F) : 0F);
+    private final BooleanValue isAuroraVisible = booleanValue(false, "isAuroraVisible");
+    private final BooleanValue isDay = booleanValue(false, "isDay");
+    private final BooleanValue isNight = booleanValue(false, "isNight");
+    private final BooleanValue isSunrise = booleanValue(false, "isSunrise");
+    private final BooleanValue isSunset = booleanValue(false, "isSunset");
 
     public DiurnalCycleVariables() {
         super("diurnal");
+        track(DRIFTING);
     }
 
     @Nonnull
@@ -51,46 +54,48 @@ public class DiurnalCycleVariables extends VariableSet<IDiurnalCycle> implements
 
         if (GameUtils.isInGame()) {
             DayCycle cycle = DayCycle.getCycle(GameUtils.getWorld());
-            this.isAuroraVisible = cycle.isAuroraVisible();
-            this.isDay = cycle == DayCycle.DAYTIME;
-            this.isNight = cycle == DayCycle.NIGHTTIME;
-            this.isSunrise = cycle == DayCycle.SUNRISE;
-            this.isSunset = cycle == DayCycle.SUNSET;
+            this.isAuroraVisible.set(cycle.isAuroraVisible());
+            this.isDay.set(cycle == DayCycle.DAYTIME);
+            this.isNight.set(cycle == DayCycle.NIGHTTIME);
+            this.isSunrise.set(cycle == DayCycle.SUNRISE);
+            this.isSunset.set(cycle == DayCycle.SUNSET);
         } else {
-            this.isAuroraVisible = false;
-            this.isDay = false;
-            this.isNight = false;
-            this.isSunrise = false;
-            this.isSunset = false;
+            this.isAuroraVisible.set(false);
+            this.isDay.set(false);
+            this.isNight.set(false);
+            this.isSunrise.set(false);
+            this.isSunset.set(false);
         }
 
+        // Angle and moon phase drift continuously so they are considered changed every tick
         this.moonPhaseFactor.reset();
         this.celestialAngle.reset();
+        changedKeys(DRIFTING);
     }
 
     @Override
     public boolean isDay() {
-        return this.isDay;
+        return this.isDay.get();
     }
 
     @Override
     public boolean isNight() {
-        return this.isNight;
+        return this.isNight.get();
     }
 
     @Override
     public boolean isSunrise() {
-        return this.isSunrise;
+        return this.isSunrise.get();
     }
 
     @Override
     public boolean isSunset() {
-        return this.isSunset;
+        return this.isSunset.get();
     }
 
     @Override
     public boolean isAuroraVisible() {
-        return this.isAuroraVisible;
+        return this.isAuroraVisible.get();
     }
 
     @Override
@@ -0,0 +1,55 @@
+/*
+ * Dynamic Surroundings: Sound Control
+ * Copyright (C) 2019  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.lib.scripting.sets;
+
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import javax.annotation.Nonnull;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Primitive boolean version of {@link LazyVariable}.  The value is held without boxing, and a flag is used to track
+ * whether it needs to be requeried.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class LazyBoolean {
+
+    @Nonnull
+    private final BooleanSupplier supplier;
+
+    private boolean value;
+    private boolean valid;
+
+    public LazyBoolean(@Nonnull final BooleanSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    public void reset() {
+        this.valid = false;
+    }
+
+    public boolean get() {
+        if (!this.valid) {
+            this.value = this.supplier.getAsBoolean();
+            this.valid = true;
+        }
+        return this.value;
+    }
+}
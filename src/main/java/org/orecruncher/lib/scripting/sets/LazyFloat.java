@@ -0,0 +1,59 @@
+/*
+ * Dynamic Surroundings: Sound Control
+ * Copyright (C) 2019  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.lib.scripting.sets;
+
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Primitive float version of {@link LazyVariable}.  The value is held without boxing, and a flag is used to track
+ * whether it needs to be requeried.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class LazyFloat {
+
+    @Nonnull
+    private final FloatSupplier supplier;
+
+    private float value;
+    private boolean valid;
+
+    public LazyFloat(@Nonnull final FloatSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    public void reset() {
+        this.valid = false;
+    }
+
+    public float get() {
+        if (!this.valid) {
+            this.value = this.supplier.getAsFloat();
+            this.valid = true;
+        }
+        return this.value;
+    }
+
+    @FunctionalInterface
+    public interface FloatSupplier {
+        float getAsFloat();
+    }
+}
@@ -32,14 +32,14 @@ import javax.annotation.Nonnull;
 @OnlyIn(Dist.CLIENT)
 public class PlayerVariables extends VariableSet<IPlayerVariables> implements IPlayerVariables {
 
-    private final LazyVariable<Boolean> isSuffocating = new LazyVariable<>(() -> {
+    private final LazyBoolean isSuffocating = new LazyBoolean(() -> {
         if (GameUtils.isInGame()) {
             final PlayerEntity player = GameUtils.getPlayer();
             return !player.isCreative() && player.getAir() < 0;
         }
         return false;
     });
-    private final LazyVariable<Boolean> canSeeSky = new LazyVariable<>(() -> {
+    private final LazyBoolean canSeeSky = new LazyBoolean(() -> {
         if (GameUtils.isInGame()) {
             final World world = GameUtils.getWorld();
             final PlayerEntity player = GameUtils.getPlayer();
@@ -47,7 +47,7 @@ public class PlayerVariables extends VariableSet<IPlayerVariables> implements IP
         }
         return false;
     });
-    private final LazyVariable<Boolean> canRainOn = new LazyVariable<>(() -> {
+    private final LazyBoolean canRainOn = new LazyBoolean(() -> {
         if (GameUtils.isInGame()) {
             final World world = GameUtils.getWorld();
             final PlayerEntity player = GameUtils.getPlayer();
@@ -56,22 +56,22 @@ public class PlayerVariables extends VariableSet<IPlayerVariables> implements IP
         }
         return false;
     });
-    private boolean isCreative;
-    private boolean isBurning;
-    private boolean isFlying;
-    private boolean isSprintnig;
-    private boolean isInLava;
-    private boolean isInvisible;
-    private boolean isBlind;
-    private boolean isInWater;
-    private boolean isWet;
-    private boolean isRiding;
-    private boolean isOnGround;
-    private boolean isMoving;
-    private float health;
-    private float maxHealth;
-    private float foodLevel;
-    private float foodSaturationLevel;
+    private final BooleanValue isCreative = booleanValue(false, "isCreative");
+    private final BooleanValue isBurning = booleanValue(false, "isBurning");
+    private final BooleanValue isFlying = booleanValue(false, "isFlying");
+    private final BooleanValue isSprintnig = booleanValue(false, "isSprintnig");
+    private final BooleanValue isInLava = booleanValue(false, "isInLava");
+    private final BooleanValue isInvisible = booleanValue(false, "isInvisible");
+    private final BooleanValue isBlind = booleanValue(false, "isBlind");
+    private final BooleanValue isInWater = booleanValue(false, "isInWater");
+    private final BooleanValue isWet = booleanValue(false, "isWet");
+    private final BooleanValue isRiding = booleanValue(false, "isRiding");
+    private final BooleanValue isOnGround = booleanValue(false, "isOnGround");
+    private final BooleanValue isMoving = booleanValue(false, "isMoving");
+    private final FloatValue health = floatValue(20F, "getHealth");
+    private final FloatValue maxHealth = floatValue(20F, "getMaxHealth");
+    private final FloatValue foodLevel = floatValue(20F, "getFoodLevel");
+    private final FloatValue foodSaturationLevel = floatValue(20F, "getFoodSaturationLevel");
     private double x;
     private double y;
     private double z;
@@ -87,43 +87,43 @@ public class PlayerVariables extends VariableSet<IPlayerVariables> implements IP
             final PlayerEntity player = GameUtils.getPlayer();
             assert player != null;
 
-            this.isCreative = player.isCreative();
-            this.isBurning = player.isBurning();
-            this.isFlying = player.isAirBorne;
-            this.isSprintnig = player.isSprinting();
-            this.isInLava = player.isInLava();
-            this.isInvisible = player.isInvisible();
-            this.isBlind = player.isPotionActive(Effects.BLINDNESS);
-            this.isInWater = player.isInWater();
-            this.isWet = player.isWet();
-            this.isRiding = player.isOnePlayerRiding();
-            this.isOnGround = player.isOnGround();
-            this.isMoving = player.distanceWalkedModified != player.prevDistanceWalkedModified;
-            this.health = player.getHealth();
-            this.maxHealth = player.getMaxHealth();
-            this.foodLevel = player.getFoodStats().getFoodLevel();
-            this.foodSaturationLevel = player.getFoodStats().getSaturationLevel();
+            this.isCreative.set(player.isCreative());
+            this.isBurning.set(player.isBurning());
+            this.isFlying.set(player.isAirBorne);
+            this.isSprintnig.set(player.isSprinting());
+            this.isInLava.set(player.isInLava());
+            this.isInvisible.set(player.isInvisible());
+            this.isBlind.set(player.isPotionActive(Effects.BLINDNESS));
+            this.isInWater.set(player.isInWater());
+            this.isWet.set(player.isWet());
+            this.isRiding.set(player.isOnePlayerRiding());
+            this.isOnGround.set(player.isOnGround());
+            this.isMoving.set(player.distanceWalkedModified != player.prevDistanceWalkedModified);
+            this.health.set(player.getHealth());
+            this.maxHealth.set(player.getMaxHealth());
+            this.foodLevel.set(player.getFoodStats().getFoodLevel());
+            this.foodSaturationLevel.set(player.getFoodStats().getSaturationLevel());
             this.x = player.getPosX();
             this.y = player.getPosY();
             this.z = player.getPosZ();
 
         } else {
 
-            this.isCreative = false;
-            this.isBurning = false;
-            this.isFlying = false;
-            this.isSprintnig = false;
-            this.isInLava = false;
-            this.isInvisible = false;
-            this.isBlind = false;
-            this.isInWater = false;
-            this.isWet = false;
-            this.isRiding = false;
-            this.isOnGround = false;
-            this.health = 20F;
-            this.maxHealth = 20F;
-            this.foodLevel = 20F;
-            this.foodSaturationLevel = 20F;
+            this.isCreative.set(false);
+            this.isBurning.set(false);
+            this.isFlying.set(false);
+            this.isSprintnig.set(false);
+            this.isInLava.set(false);
+            this.isInvisible.set(false);
+            this.isBlind.set(false);
+            this.isInWater.set(false);
+            this.isWet.set(false);
+            this.isRiding.set(false);
+            this.isOnGround.set(false);
+            this.health.set(20F);
+            this.maxHealth.set(20F);
+            this.foodLevel.set(20F);
+            this.foodSaturationLevel.set(20F);
             this.x = 0;
             this.y = 0;
             this.z = 0;
@@ -134,6 +134,8 @@ public class PlayerVariables extends VariableSet<IPlayerVariables> implements IP
         this.canRainOn.reset();
         this.canSeeSky.reset();
 
+        // Position and the world queries are considered changed every tick
+        changed();
     }
 
     @Nonnull
@@ -144,12 +146,12 @@ public class PlayerVariables extends VariableSet<IPlayerVariables> implements IP
 
     @Override
     public boolean isCreative() {
-        return this.isCreative;
+        return this.isCreative.get();
     }
 
     @Override
     public boolean isBurning() {
-        return this.isBurning;
+        return this.isBurning.get();
     }
 
     @Override
@@ -159,52 +161,52 @@ public class PlayerVariables extends VariableSet<IPlayerVariables> implements IP
 
     @Override
     public boolean isFlying() {
-        return this.isFlying;
+        return this.isFlying.get();
     }
 
     @Override
     public boolean isSprintnig() {
-        return this.isSprintnig;
+        return this.isSprintnig.get();
     }
 
     @Override
     public boolean isInLava() {
-        return this.isInLava;
+        return this.isInLava.get();
     }
 
     @Override
     public boolean isInvisible() {
-        return this.isInvisible;
+        return this.isInvisible.get();
     }
 
     @Override
     public boolean isBlind() {
-        return this.isBlind;
+        return this.isBlind.get();
     }
 
     @Override
     public boolean isInWater() {
-        return this.isInWater;
+        return this.isInWater.get();
     }
 
     @Override
     public boolean isMoving() {
-        return this.isMoving;
+        return this.isMoving.get();
     }
 
     @Override
     public boolean isWet() {
-        return this.isWet;
+        return this.isWet.get();
     }
 
     @Override
     public boolean isRiding() {
-        return this.isRiding;
+        return this.isRiding.get();
     }
 
     @Override
     public boolean isOnGround() {
-        return this.isOnGround;
+        return this.isOnGround.get();
     }
 
     @Override
@@ -219,22 +221,22 @@ public class PlayerVariables extends VariableSet<IPlayerVariables> implements IP
 
     @Override
     public float getHealth() {
-        return this.health;
+        return this.health.get();
     }
 
     @Override
     public float getMaxHealth() {
-        return this.maxHealth;
+        return this.maxHealth.get();
     }
 
     @Override
     public float getFoodLevel() {
-        return this.foodLevel;
+        return this.foodLevel.get();
     }
 
     @Override
     public float getFoodSaturationLevel() {
-        return this.foodSaturationLevel;
+        return this.foodSaturationLevel.get();
     }
 
     @Override
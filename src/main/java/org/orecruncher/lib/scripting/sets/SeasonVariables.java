@@ -30,8 +30,8 @@ import javax.annotation.Nonnull;
 @OnlyIn(Dist.CLIENT)
 public class SeasonVariables  extends VariableSet<ISeasonVariables> implements ISeasonVariables {
 
-    private final LazyVariable<Season> season = new LazyVariable<>(() -> Season.getSeason(GameUtils.getWorld()));
-    private final LazyVariable<String> seasonName = new LazyVariable<>(() -> season.get().getFormattedText());
+    private Season season = Season.NONE;
+    private final LazyVariable<String> seasonName = new LazyVariable<>(() -> this.season.getFormattedText());
 
     public SeasonVariables() {
         super("season");
@@ -45,28 +45,32 @@ public class SeasonVariables  extends VariableSet<ISeasonVariables> implements I
 
     @Override
     public void update() {
-        this.season.reset();
-        this.seasonName.reset();
+        final Season current = GameUtils.isInGame() ? Season.getSeason(GameUtils.getWorld()) : Season.NONE;
+        if (current != this.season) {
+            this.season = current;
+            this.seasonName.reset();
+            changed();
+        }
     }
 
     @Override
     public boolean isSpring() {
-        return this.season.get().getType() == SeasonType.SPRING;
+        return this.season.getType() == SeasonType.SPRING;
     }
 
     @Override
     public boolean isSummer() {
-        return this.season.get().getType() == SeasonType.SUMMER;
+        return this.season.getType() == SeasonType.SUMMER;
     }
 
     @Override
     public boolean isAutumn() {
-        return this.season.get().getType() == SeasonType.AUTUMN;
+        return this.season.getType() == SeasonType.AUTUMN;
     }
 
     @Override
     public boolean isWinter() {
-        return this.season.get().getType() == SeasonType.WINTER;
+        return this.season.getType() == SeasonType.WINTER;
     }
 
     @Override
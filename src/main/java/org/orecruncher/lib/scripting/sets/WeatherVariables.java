@@ -31,18 +31,11 @@ import javax.annotation.Nonnull;
 @OnlyIn(Dist.CLIENT)
 public class WeatherVariables extends VariableSet<IWeatherVariables> implements IWeatherVariables {
 
-    private final LazyVariable<Float> temperature = new LazyVariable<>(() -> {
-        if (GameUtils.isInGame()) {
-            final World world = GameUtils.getWorld();
-            final BlockPos pos = GameUtils.getPlayer().getPosition();
-            return WorldUtils.getTemperatureAt(world, pos);
-        }
-        return 0F;
-    });
-    private boolean isRaining;
-    private boolean isThundering;
-    private float rainIntensity;
-    private float thunderIndensity;
+    private final BooleanValue isRaining = booleanValue(false, "isRaining", "isNotRaining");
+    private final BooleanValue isThundering = booleanValue(false, "isThundering", "isNotThundering");
+    private final FloatValue rainIntensity = floatValue(0F, "getRainIntensity");
+    private final FloatValue thunderIndensity = floatValue(0F, "getThunderIntensity");
+    private final FloatValue temperature = floatValue(0F, "getTemperature", "isFrosty", "canWaterFreeze");
 
     public WeatherVariables() {
         super("weather");
@@ -58,37 +51,39 @@ public class WeatherVariables extends VariableSet<IWeatherVariables> implements
     public void update() {
         if (GameUtils.isInGame()) {
             final World world = GameUtils.getWorld();
-            this.rainIntensity = WorldUtils.getRainStrength(world, 1F);
-            this.thunderIndensity = WorldUtils.getThunderStrength(world, 1F);
-            this.isRaining = WorldUtils.isRaining(world);
-            this.isThundering = WorldUtils.isThundering(world);
+            final BlockPos pos = GameUtils.getPlayer().getPosition();
+            this.rainIntensity.set(WorldUtils.getRainStrength(world, 1F));
+            this.thunderIndensity.set(WorldUtils.getThunderStrength(world, 1F));
+            this.isRaining.set(WorldUtils.isRaining(world));
+            this.isThundering.set(WorldUtils.isThundering(world));
+            this.temperature.set(WorldUtils.getTemperatureAt(world, pos));
         } else {
-            this.rainIntensity = 0F;
-            this.thunderIndensity = 0F;
-            this.isRaining = false;
-            this.isThundering = false;
+            this.rainIntensity.set(0F);
+            this.thunderIndensity.set(0F);
+            this.isRaining.set(false);
+            this.isThundering.set(false);
+            this.temperature.set(0F);
         }
-        this.temperature.reset();
     }
 
     @Override
     public boolean isRaining() {
-        return this.isRaining;
+        return this.isRaining.get();
     }
 
     @Override
     public boolean isThundering() {
-        return this.isThundering;
+        return this.isThundering.get();
     }
 
     @Override
     public float getRainIntensity() {
-        return this.rainIntensity;
+        return this.rainIntensity.get();
     }
 
     @Override
     public float getThunderIntensity() {
-        return this.thunderIndensity;
+        return this.thunderIndensity.get();
     }
 
     @Override
@@ -18,7 +18,7 @@
 
 package org.orecruncher.lib.world;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.util.math.BlockPos;
@@ -29,7 +29,6 @@ import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.EventPriority;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
-import org.apache.commons.lang3.tuple.Pair;
 import org.orecruncher.dsurround.DynamicSurroundings;
 import org.orecruncher.lib.events.BlockUpdateEvent;
 import org.orecruncher.lib.events.DiagnosticEvent;
@@ -37,7 +36,6 @@ import org.orecruncher.lib.math.LoggingTimerEMA;
 import org.orecruncher.sndctrl.config.Config;
 
 import javax.annotation.Nonnull;
-import java.util.*;
 
 @Mod.EventBusSubscriber(modid = DynamicSurroundings.MOD_ID, value = Dist.CLIENT, bus = Mod.EventBusSubscriber.Bus.FORGE)
 public final class ClientBlockUpdateHandler {
@@ -49,13 +47,55 @@ public final class ClientBlockUpdateHandler {
     // be filled in again, like mining underwater.
     private static final int TICK_OFFSET = 10;
     private static final LoggingTimerEMA timer = new LoggingTimerEMA("Block Updates");
-    private static final Queue<Pair<Integer, BlockPos>> updates = new LinkedList<>();
-    private static final Set<BlockPos> toSend = new ObjectOpenHashSet<>();
+    private static final int INITIAL_CAPACITY = 256;
+
+    // Ring buffer of pending updates.  Entries are added in tick order so the head is always the next to expire.
+    private static int[] ticks = new int[INITIAL_CAPACITY];
+    private static long[] positions = new long[INITIAL_CAPACITY];
+    private static int head = 0;
+    private static int count = 0;
+
+    // Positions sitting in the ring buffer.  A position that is already pending is not queued again since the
+    // listeners will see the latest state of the block when the original entry is posted.
+    private static final LongOpenHashSet pending = new LongOpenHashSet();
+    private static final LongOpenHashSet toSend = new LongOpenHashSet();
     private static int interval = 0;
 
     // Callback that is inserted into ClientWorld processing via ASM
     public static void blockUpdateCallback(@Nonnull final ClientWorld world, @Nonnull final BlockPos pos, @Nonnull final BlockState state) {
-        updates.add(Pair.of(interval + TICK_OFFSET, pos));
+        final long packed = pos.toLong();
+        if (!pending.add(packed))
+            return;
+        if (count == positions.length)
+            grow();
+        final int idx = (head + count) & (positions.length - 1);
+        ticks[idx] = interval + TICK_OFFSET;
+        positions[idx] = packed;
+        count++;
+    }
+
+    private static void grow() {
+        final int capacity = positions.length;
+        final int[] newTicks = new int[capacity << 1];
+        final long[] newPositions = new long[capacity << 1];
+        for (int i = 0; i < count; i++) {
+            final int idx = (head + i) & (capacity - 1);
+            newTicks[i] = ticks[idx];
+            newPositions[i] = positions[idx];
+        }
+        ticks = newTicks;
+        positions = newPositions;
+        head = 0;
+    }
+
+    private static void clear() {
+        ticks = new int[INITIAL_CAPACITY];
+        positions = new long[INITIAL_CAPACITY];
+        head = 0;
+        count = 0;
+        pending.clear();
+        toSend.clear();
+        interval = 0;
     }
 
     @SubscribeEvent(priority = EventPriority.LOW)
@@ -63,19 +103,20 @@ public final class ClientBlockUpdateHandler {
         try {
             timer.begin();
 
-            if (updates.isEmpty())
+            if (count == 0 || ticks[head] > interval)
                 return;
 
             toSend.clear();
-
-            while (!updates.isEmpty() && updates.peek().getKey() <= interval) {
-                toSend.add(updates.poll().getValue());
+            final int mask = positions.length - 1;
+            while (count > 0 && ticks[head] <= interval) {
+                final long packed = positions[head];
+                toSend.add(packed);
+                pending.remove(packed);
+                head = (head + 1) & mask;
+                count--;
             }
 
-            if (toSend.size() > 0) {
-                final BlockUpdateEvent evt = new BlockUpdateEvent(toSend);
-                MinecraftForge.EVENT_BUS.post(evt);
-            }
+            MinecraftForge.EVENT_BUS.post(new BlockUpdateEvent(toSend));
         } finally {
             interval++;
             timer.end();
@@ -85,16 +126,14 @@ public final class ClientBlockUpdateHandler {
     @SubscribeEvent(priority = EventPriority.LOW)
     public static void onWorldLoad(@Nonnull final WorldEvent.Load event) {
         if (event.getWorld().isRemote()) {
-            updates.clear();
-            interval = 0;
+            clear();
         }
     }
 
     @SubscribeEvent(priority = EventPriority.LOW)
     public static void onWorldUnload(@Nonnull final WorldEvent.Unload event) {
         if (event.getWorld().isRemote()) {
-            updates.clear();
-            interval = 0;
+            clear();
         }
     }
 
@@ -178,6 +178,7 @@ public final class Config {
 
             public final BooleanValue hidePlayerPotionParticles;
             public final BooleanValue showBreath;
+            public final IntValue breathVisibilityTicks;
             public final BooleanValue showArrowTrail;
             public final BooleanValue enableToolbarEffect;
             public final BooleanValue enableBowEffect;
@@ -199,6 +200,11 @@ public final class Config {
                         .translation("mobeffects.cfg.effects.Breath")
                         .define("Show Breath Effect", true);
 
+                this.breathVisibilityTicks = builder
+                        .comment("Number of ticks an entity's breath visibility check is reused")
+                        .translation("mobeffects.cfg.effects.BreathVisibility")
+                        .defineInRange("Breath Visibility Cache Ticks", 10, 1, 100);
+
                 this.showArrowTrail = builder
                         .comment("Show arrow particle trail during flight")
                         .translation("mobeffects.cfg.effects.Arrow")
@@ -32,6 +32,7 @@ import org.orecruncher.lib.TickCounter;
 import org.orecruncher.lib.WorldUtils;
 import org.orecruncher.lib.random.MurmurHash3;
 import org.orecruncher.mobeffects.MobEffects;
+import org.orecruncher.mobeffects.config.Config;
 import org.orecruncher.mobeffects.effects.particles.BubbleBreathParticle;
 import org.orecruncher.mobeffects.effects.particles.FrostBreathParticle;
 import org.orecruncher.sndctrl.api.effects.AbstractEntityEffect;
@@ -47,8 +48,20 @@ public class EntityBreathEffect extends AbstractEntityEffect {
             EntityBreathEffect.NAME,
             entity -> new EntityBreathEffect());
 
+    // Refresh cached visibility early if either the player or the entity moves more than a block
+    private static final double MOVE_THRESHOLD_SQ = 1.0D;
+
     private int seed;
 
+    private boolean visible;
+    private long visibilityExpiry = Long.MIN_VALUE;
+    private double viewerX;
+    private double viewerY;
+    private double viewerZ;
+    private double subjectX;
+    private double subjectY;
+    private double subjectZ;
+
     public EntityBreathEffect() {
         super(NAME);
     }
@@ -59,6 +72,12 @@ public class EntityBreathEffect extends AbstractEntityEffect {
         this.seed = MurmurHash3.hash(getEntity().getEntityId()) & 0xFFFF;
     }
 
+    @Override
+    public boolean isDeferrable() {
+        // Breath is ambient; a distant entity puffing a little less often is not noticeable
+        return true;
+    }
+
     @Override
     public void update() {
         final LivingEntity entity = getEntity();
@@ -93,7 +112,30 @@ public class EntityBreathEffect extends AbstractEntityEffect {
         if (entity == player) {
             return !(player.isSpectator() || GameUtils.getGameSettings().hideGUI);
         }
-        return !entity.isInvisibleToPlayer(player) && player.canEntityBeSeen(entity);
+        if (entity.isInvisibleToPlayer(player))
+            return false;
+
+        final long tick = TickCounter.getTickCount();
+        if (tick >= this.visibilityExpiry || hasMoved(player, entity)) {
+            this.visible = player.canEntityBeSeen(entity);
+            this.visibilityExpiry = tick + Config.CLIENT.effects.breathVisibilityTicks.get();
+            this.viewerX = player.getPosX();
+            this.viewerY = player.getPosY();
+            this.viewerZ = player.getPosZ();
+            this.subjectX = entity.getPosX();
+            this.subjectY = entity.getPosY();
+            this.subjectZ = entity.getPosZ();
+        }
+        return this.visible;
+    }
+
+    private boolean hasMoved(@Nonnull final PlayerEntity player, @Nonnull final LivingEntity entity) {
+        return distanceSq(player.getPosX() - this.viewerX, player.getPosY() - this.viewerY, player.getPosZ() - this.viewerZ) > MOVE_THRESHOLD_SQ
+                || distanceSq(entity.getPosX() - this.subjectX, entity.getPosY() - this.subjectY, entity.getPosZ() - this.subjectZ) > MOVE_THRESHOLD_SQ;
+    }
+
+    private static double distanceSq(final double dx, final double dy, final double dz) {
+        return dx * dx + dy * dy + dz * dz;
     }
 
     protected BlockPos getHeadPosition(@Nonnull final LivingEntity entity) {
@@ -30,6 +30,7 @@ import net.minecraftforge.api.distmarker.OnlyIn;
 import org.orecruncher.lib.particles.CollectionManager;
 import org.orecruncher.lib.particles.IParticleCollection;
 import org.orecruncher.lib.particles.IParticleMote;
+import org.orecruncher.lib.particles.MotePool;
 import org.orecruncher.lib.particles.ParticleRenderType;
 import org.orecruncher.mobeffects.MobEffects;
 import org.orecruncher.mobeffects.footsteps.FootprintStyle;
@@ -51,6 +52,7 @@ public final class Collections {
             };
 
     private final static IParticleCollection thePrints = CollectionManager.create("Footprints", FOOTPRINT_RENDER);
+    private final static MotePool<FootprintMote> printPool = CollectionManager.createPool("Footprints", FootprintMote::new);
 
     private Collections() {
 
@@ -58,8 +60,8 @@ public final class Collections {
 
     public static void addFootprint(@Nonnull final FootprintStyle style, @Nonnull final World world,
                                     final Vector3d loc, final float rot, final float scale, final boolean isRight) {
-        if (thePrints.canFit()) {
-            final IParticleMote mote = new FootprintMote(style, world, loc.x, loc.y, loc.z, rot, scale, isRight);
+        if (thePrints.canFit() && CollectionManager.shouldSpawn(loc.x, loc.y, loc.z)) {
+            final IParticleMote mote = printPool.acquire().init(style, world, loc.x, loc.y, loc.z, rot, scale, isRight);
             thePrints.add(mote);
         }
     }
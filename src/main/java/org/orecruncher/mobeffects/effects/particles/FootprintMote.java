@@ -23,7 +23,6 @@ import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.client.renderer.ActiveRenderInfo;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.vector.Vector2f;
 import net.minecraft.world.IBlockReader;
 import net.minecraft.world.World;
 import net.minecraftforge.api.distmarker.Dist;
@@ -45,30 +44,29 @@ public class FootprintMote extends AgeableMote {
     // Basic layout of the footprint
     private static final float WIDTH = 0.125F;
     private static final float LENGTH = WIDTH * 2.0F;
-    private static final Vector2f FIRST_POINT = new Vector2f(-WIDTH, LENGTH);
-    private static final Vector2f SECOND_POINT = new Vector2f(WIDTH, LENGTH);
-    private static final Vector2f THIRD_POINT = new Vector2f(WIDTH, -LENGTH);
-    private static final Vector2f FOURTH_POINT = new Vector2f(-WIDTH, -LENGTH);
 
     // Micro Y adjuster to avoid z-fighting when rendering
     // multiple overlapping prints.
     private static float zFighter = 0F;
 
-    protected final boolean isSnowLayer;
-    protected final BlockPos downPos;
+    protected boolean isSnowLayer;
+    protected final BlockPos.Mutable downPos = new BlockPos.Mutable();
 
-    protected final float texU1, texU2;
-    protected final float texV1, texV2;
-    protected final float scale;
+    protected float texU1, texU2;
+    protected float texV1, texV2;
+    protected float scale;
 
-    protected final Vector2f firstPoint;
-    protected final Vector2f secondPoint;
-    protected final Vector2f thirdPoint;
-    protected final Vector2f fourthPoint;
+    // Corners of the print after rotation and scaling.  The print is centered on its position so the third and
+    // fourth corners are the first and second reflected through the center.
+    protected float firstX, firstZ;
+    protected float secondX, secondZ;
+    protected float thirdX, thirdZ;
+    protected float fourthX, fourthZ;
 
-    public FootprintMote(@Nonnull final FootprintStyle style, @Nonnull final IBlockReader world, final double x,
+    @Nonnull
+    public FootprintMote init(@Nonnull final FootprintStyle style, @Nonnull final IBlockReader world, final double x,
                          final double y, final double z, final float rotation, final float scale, final boolean isRight) {
-        super(world, x, y, z);
+        initAgeable(world, x, y, z);
 
         this.maxAge = 200;
 
@@ -83,9 +81,9 @@ public class FootprintMote extends AgeableMote {
         // Make sure that the down position is calculated from the display position!
         final float fraction = (float) (y - (int) y);
         if (this.isSnowLayer || fraction <= 0.0625F) {
-            this.downPos = new BlockPos(this.posX, this.posY, this.posZ).down();
+            this.downPos.setPos(this.posX, this.posY - 1, this.posZ);
         } else {
-            this.downPos = this.position.toImmutable();
+            this.downPos.setPos(this.position);
         }
 
         float u1 = style.ordinal() * TEXEL_WIDTH + 1 / 256F;
@@ -100,22 +98,29 @@ public class FootprintMote extends AgeableMote {
         // Rotate our vertex coordinates. Since prints are static doing the rotation on the vertex points during
         // constructions makes for a much more efficient render process.
         final float theRotation = MathStuff.toRadians(-rotation + 180);
-        this.firstPoint = MathStuff.rotateScale(FIRST_POINT, theRotation, this.scale);
-        this.secondPoint = MathStuff.rotateScale(SECOND_POINT, theRotation, this.scale);
-        this.thirdPoint = MathStuff.rotateScale(THIRD_POINT, theRotation, this.scale);
-        this.fourthPoint = MathStuff.rotateScale(FOURTH_POINT, theRotation, this.scale);
+        final float cos = MathStuff.cos(theRotation) * this.scale;
+        final float sin = MathStuff.sin(theRotation) * this.scale;
+        this.firstX = -WIDTH * cos + LENGTH * sin;
+        this.firstZ = LENGTH * cos + WIDTH * sin;
+        this.secondX = WIDTH * cos + LENGTH * sin;
+        this.secondZ = LENGTH * cos - WIDTH * sin;
+        this.thirdX = -this.firstX;
+        this.thirdZ = -this.firstZ;
+        this.fourthX = -this.secondX;
+        this.fourthZ = -this.secondZ;
+        return this;
     }
 
     @Override
-    protected boolean advanceAge() {
+    protected int advanceAge(final int steps) {
         // Footprints age faster when raining
         if (world instanceof World && ((World) world).isRaining())
-            this.age += (WorldUtils.getRainStrength((World) world, 1F) * 100F) / 25;
-        return super.advanceAge();
+            this.age += steps * (int) ((WorldUtils.getRainStrength((World) world, 1F) * 100F) / 25);
+        return super.advanceAge(steps);
     }
 
     @Override
-    protected void update() {
+    protected void update(final int steps) {
         if (this.isSnowLayer && world.getBlockState(this.position).getBlock() != Blocks.SNOW) {
             kill();
         } else {
@@ -136,10 +141,10 @@ public class FootprintMote extends AgeableMote {
         final double y = renderY(info, partialTicks);
         final double z = renderZ(info, partialTicks);
 
-        drawVertex(buffer, x + this.firstPoint.x, y, z + this.firstPoint.y, this.texU1, this.texV2);
-        drawVertex(buffer, x + this.secondPoint.x, y, z + this.secondPoint.y, this.texU2, this.texV2);
-        drawVertex(buffer, x + this.thirdPoint.x, y, z + this.thirdPoint.y, this.texU2, this.texV1);
-        drawVertex(buffer, x + this.fourthPoint.x, y, z + this.fourthPoint.y, this.texU1, this.texV1);
+        drawVertex(buffer, x + this.firstX, y, z + this.firstZ, this.texU1, this.texV2);
+        drawVertex(buffer, x + this.secondX, y, z + this.secondZ, this.texU2, this.texV2);
+        drawVertex(buffer, x + this.thirdX, y, z + this.thirdZ, this.texU2, this.texV1);
+        drawVertex(buffer, x + this.fourthX, y, z + this.fourthZ, this.texU1, this.texV1);
     }
 
 }
\ No newline at end of file
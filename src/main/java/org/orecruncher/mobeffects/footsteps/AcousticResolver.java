@@ -28,7 +28,6 @@ import net.minecraft.block.material.Material;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.util.Direction;
 import net.minecraft.util.math.MathHelper;
-import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.world.IWorldReader;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
@@ -40,7 +39,6 @@ import org.orecruncher.mobeffects.footsteps.facade.FacadeHelper;
 import org.orecruncher.mobeffects.library.Constants;
 import org.orecruncher.mobeffects.library.FootstepLibrary;
 import org.orecruncher.sndctrl.api.acoustics.IAcoustic;
-import org.orecruncher.sndctrl.audio.acoustic.AcousticCompiler;
 import org.orecruncher.sndctrl.library.Primitives;
 
 @OnlyIn(Dist.CLIENT)
@@ -48,23 +46,41 @@ public class AcousticResolver {
 
 	private static final float PROBE_DEPTH = 1F/16F;
 
-	protected final IWorldReader world;
-	protected final FootStrikeLocation loc;
-	protected final double distanceToCenter;
+	protected IWorldReader world;
+	protected FootStrikeLocation loc;
+	protected double distanceToCenter;
+
+	// Cursors used to probe the world so that no positions need to be allocated
+	protected final BlockPos.Mutable probe = new BlockPos.Mutable();
+	protected final BlockPos.Mutable probeUp = new BlockPos.Mutable();
+
+	/**
+	 * Creates an empty resolver intended to be filled in with set() and reused
+	 */
+	public AcousticResolver() {
+
+	}
 
 	public AcousticResolver(@Nonnull final IWorldReader world,
 			@Nonnull final FootStrikeLocation loc, final double distanceToCenter) {
+		set(world, loc, distanceToCenter);
+	}
+
+	@Nonnull
+	public AcousticResolver set(@Nonnull final IWorldReader world,
+			@Nonnull final FootStrikeLocation loc, final double distanceToCenter) {
 		this.world = world;
 		this.loc = loc;
 		this.distanceToCenter = distanceToCenter;
+		return this;
 	}
 
-	protected BlockState getBlockStateFacade(@Nonnull final Vector3d pos) {
-		return FacadeHelper.resolveState(this.loc.getEntity(), getBlockState(pos), this.world, pos, Direction.UP);
+	protected BlockState getBlockStateFacade(final double x, final double y, final double z) {
+		return FacadeHelper.resolveState(this.loc.getEntity(), getBlockState(x, y, z), this.world, this.probe, Direction.UP);
 	}
 
-	protected BlockState getBlockState(@Nonnull final Vector3d pos) {
-		return this.world.getBlockState(new BlockPos(pos));
+	protected BlockState getBlockState(final double x, final double y, final double z) {
+		return this.world.getBlockState(this.probe.setPos(x, y, z));
 	}
 
 	/**
@@ -73,19 +89,19 @@ public class AcousticResolver {
 	 * the player is walking on the edge of a block when walking over non-emitting
 	 * blocks like air or water)
 	 *
-	 * Returns null if no blocks are valid emitting blocks. Returns a string that
-	 * begins with "_NO_ASSOCIATION" if a matching block was found, but has no
-	 * association in the blockmap.
+	 * Returns false if no blocks are valid emitting blocks, otherwise the result
+	 * is written into the association provided.
 	 */
-	@Nullable
-	public Association findAssociation() {
+	public boolean findAssociation(@Nonnull final Association result) {
 
 		if (!Config.CLIENT.footsteps.enableFootstepSounds.get())
-			return findVanillaAssociation();
+			return findVanillaAssociation(result);
 
-		final Vector3d pos = this.loc.getStrikePosition();
+		final double x = this.loc.getStrikeX();
+		final double y = this.loc.getStrikeY();
+		final double z = this.loc.getStrikeZ();
 
-		Association worked = resolve(pos);
+		boolean worked = resolve(x, y, z, result);
 
 		// If it didn't work, the player has walked over the air on the border
 		// of a block.
@@ -95,13 +111,12 @@ public class AcousticResolver {
 		// ------ ------
 		// |
 		// V z
-		if (worked == null) {
+		if (!worked) {
 			// Create a trigo. mark contained inside the block the player is
 			// over
 			final LivingEntity entity = this.loc.getEntity();
-			final BlockPos adj = new BlockPos(pos);
-			final double xdang = (entity.getPosX() - adj.getX()) * 2 - 1;
-			final double zdang = (entity.getPosZ() - adj.getZ()) * 2 - 1;
+			final double xdang = (entity.getPosX() - MathHelper.floor(x)) * 2 - 1;
+			final double zdang = (entity.getPosZ() - MathHelper.floor(z)) * 2 - 1;
 			// -1 0 1
 			// ------- -1
 			// | o |
@@ -123,23 +138,25 @@ public class AcousticResolver {
 				// | . |
 				// < maxofX- maxofX+ >
 				// Take the maximum border to produce the sound
+				final double xOffset = xdang > 0 ? 1 : -1;
+				final double zOffset = zdang > 0 ? 1 : -1;
 				if (isXdangMax) {
 					// If we are in the positive border, add 1,
 					// else subtract 1
-					worked = resolve(xdang > 0 ? this.loc.east() : this.loc.west());
+					worked = resolve(x + xOffset, y, z, result);
 				} else {
-					worked = resolve(zdang > 0 ? this.loc.south() : this.loc.north());
+					worked = resolve(x, y, z + zOffset, result);
 				}
 
 				// If that didn't work, then maybe the footstep hit in the
 				// direction of walking. Try with the other closest block
-				if (worked == null) {
+				if (!worked) {
 					// Take the maximum direction and try with
 					// the orthogonal direction of it
 					if (isXdangMax) {
-						worked = resolve(zdang > 0 ? this.loc.south() : this.loc.north());
+						worked = resolve(x, y, z + zOffset, result);
 					} else {
-						worked = resolve(xdang > 0 ? this.loc.east() : this.loc.west());
+						worked = resolve(x + xOffset, y, z, result);
 					}
 				}
 			}
@@ -147,44 +164,66 @@ public class AcousticResolver {
 		return worked;
 	}
 
-	@Nullable
-	protected Association findVanillaAssociation() {
+	protected boolean findVanillaAssociation(@Nonnull final Association result) {
 
 		// Simple version - no fancy stuff.  Goal is to simulate vanilla and play vanilla block sounds
-		final Vector3d pos = this.loc.getStrikePosition();
+		final LivingEntity entity = this.loc.getEntity();
 
 		// See what block is beneath that position
-		int posX = MathHelper.floor(pos.x);
-		int posY = MathHelper.floor(pos.y - PROBE_DEPTH);
-		int posZ = MathHelper.floor(pos.z);
-		BlockPos blockpos = new BlockPos(posX, posY, posZ);
+		final int posX = MathHelper.floor(this.loc.getStrikeX());
+		final int posY = MathHelper.floor(this.loc.getStrikeY() - PROBE_DEPTH);
+		final int posZ = MathHelper.floor(this.loc.getStrikeZ());
+		final BlockPos.Mutable blockpos = this.probe.setPos(posX, posY, posZ);
 		if (this.world.isAirBlock(blockpos)) {
-			BlockPos blockpos1 = blockpos.down();
-			BlockState blockstate = this.world.getBlockState(blockpos1);
-			if (blockstate.collisionExtendsVertically(this.world, blockpos1, this.loc.getEntity())) {
-				blockpos = blockpos1;
+			blockpos.setPos(posX, posY - 1, posZ);
+			final BlockState blockstate = this.world.getBlockState(blockpos);
+			if (!blockstate.collisionExtendsVertically(this.world, blockpos, entity)) {
+				blockpos.setPos(posX, posY, posZ);
 			}
 		}
 
 		// We have a position - next up figure out what sound to play
 		final BlockState state = this.world.getBlockState(blockpos);
 		if (!(state.getMaterial().isLiquid() || state.isAir(this.world, blockpos))) {
-			BlockState blockstate = this.world.getBlockState(blockpos.up());
-			SoundType soundtype = blockstate.isIn(Blocks.SNOW) ? blockstate.getSoundType(this.world, blockpos, this.loc.getEntity()) : state.getSoundType(this.world, blockpos, this.loc.getEntity());
+			final BlockState blockstate = this.world.getBlockState(this.probeUp.setPos(blockpos.getX(), blockpos.getY() + 1, blockpos.getZ()));
+			final SoundType soundtype = blockstate.isIn(Blocks.SNOW) ? blockstate.getSoundType(this.world, blockpos, entity) : state.getSoundType(this.world, blockpos, entity);
 			final IAcoustic acoustics = Primitives.getVanillaFootstepAcoustic(soundtype);
-			return new Association(this.loc, acoustics);
+			result.set(this.loc, acoustics);
+			return true;
+		}
+
+		return false;
+	}
+
+	protected boolean resolve(final double x, final double y, final double z, @Nonnull final Association result) {
+		final long key = BlockPos.pack(MathHelper.floor(x), MathHelper.floor(y), MathHelper.floor(z));
+		FootstepCache.Entry entry = FootstepCache.get(key);
+		if (entry == null)
+			entry = resolveBlock(x, y, z, key);
+
+		if (entry.acoustics == Constants.NOT_EMITTER) {
+			// Player has stepped on a non-emitter block as defined in the blockmap
+			return false;
 		}
 
-		return null;
+		// Let's play the fancy acoustics we have defined for the block
+		this.loc.rebase(this.probe.setPos(x, y + entry.stepOffset, z));
+		result.set(this.loc, entry.acoustics);
+		if (entry.foliage != null)
+			result.add(entry.foliage);
+		return true;
 	}
 
-	@Nullable
-	protected Association resolve(@Nonnull Vector3d vec) {
-		BlockState in;
+	/**
+	 * Works out the acoustics for a strike at the specified location and places the result in the footstep cache.
+	 */
+	@Nonnull
+	protected FootstepCache.Entry resolveBlock(final double x, final double y, final double z, final long key) {
+		int stepOffset = 0;
 		IAcoustic acoustics = Constants.EMPTY;
+		IAcoustic foliage = null;
 
-		Vector3d tPos = vec.add(0, 1, 0);
-		final BlockState above = getBlockState(tPos);
+		final BlockState above = getBlockState(x, y + 1, z);
 
 		if (above.getMaterial() != Material.AIR)
 			acoustics = FootstepLibrary.getBlockAcoustics(above, Substrate.CARPET);
@@ -194,13 +233,12 @@ public class AcousticResolver {
 			// will CONTINUE with the actual block surface the player is walking
 			// on NOT_EMITTER carpets will not cause solving to skip
 
-			in = getBlockStateFacade(vec);
+			BlockState in = getBlockStateFacade(x, y, z);
 			if (in.getMaterial() == Material.AIR) {
-				tPos = vec.add(0, -1, 0);
-				final BlockState below = getBlockState(tPos);
+				final BlockState below = getBlockState(x, y - 1, z);
 				acoustics = FootstepLibrary.getBlockAcoustics(below, Substrate.FENCE);
 				if (acoustics != Constants.EMPTY) {
-					vec = tPos;
+					stepOffset = -1;
 					in = below;
 				}
 			}
@@ -216,23 +254,17 @@ public class AcousticResolver {
 				// if else group.
 
 				if (above.getMaterial() != Material.AIR) {
-					final IAcoustic foliage = FootstepLibrary.getBlockAcoustics(above, Substrate.FOLIAGE);
-					if (foliage != Constants.NOT_EMITTER) {
-						acoustics = AcousticCompiler.combine(acoustics, foliage);
+					final IAcoustic acoustic = FootstepLibrary.getBlockAcoustics(above, Substrate.FOLIAGE);
+					if (acoustic != Constants.NOT_EMITTER) {
+						foliage = acoustic;
 					}
 				}
 			}
 		} else {
-			vec = tPos;
+			stepOffset = 1;
 		}
 
-		if (acoustics == Constants.NOT_EMITTER) {
-			// Player has stepped on a non-emitter block as defined in the blockmap
-			return null;
-		} else {
-			// Let's play the fancy acoustics we have defined for the block
-			return new Association(this.loc.rebase(new BlockPos(vec)), acoustics);
-		}
+		return FootstepCache.put(key, acoustics, foliage, stepOffset);
 	}
 
 }
@@ -26,36 +26,60 @@ import net.minecraftforge.api.distmarker.OnlyIn;
 
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.vector.Vector3d;
+import org.orecruncher.lib.collections.ObjectArray;
 import org.orecruncher.sndctrl.api.acoustics.AcousticEvent;
 import org.orecruncher.sndctrl.api.acoustics.IAcoustic;
-import org.orecruncher.sndctrl.audio.acoustic.AcousticCompiler;
 
+/**
+ * Ties a set of acoustics to a foot strike location.  Instances are intended to be reused by a generator, so rather
+ * than combining acoustics into a new composite the association holds the list and plays each in turn.
+ */
 @OnlyIn(Dist.CLIENT)
 public class Association {
 
-	private final FootStrikeLocation location;
-	private IAcoustic data;
+	// Location used when the association is based on the entity position
+	private final FootStrikeLocation entityLocation = new FootStrikeLocation();
+	private final ObjectArray<IAcoustic> data = new ObjectArray<>(4);
+	private FootStrikeLocation location;
+
+	public Association() {
+
+	}
 
 	public Association(@Nonnull final LivingEntity entity, @Nonnull final IAcoustic association) {
-		final Vector3d vec = entity.getPositionVec();
-		this.location = new FootStrikeLocation(entity, vec.x, vec.y + 1, vec.z);
-		this.data = association;
+		set(entity, association);
 	}
 
 	public Association(@Nonnull final FootStrikeLocation pos, @Nonnull final IAcoustic association) {
+		set(pos, association);
+	}
+
+	@Nonnull
+	public Association set(@Nonnull final LivingEntity entity, @Nonnull final IAcoustic association) {
+		return set(this.entityLocation.set(entity, entity.getPosX(), entity.getPosY() + 1, entity.getPosZ()), association);
+	}
+
+	@Nonnull
+	public Association set(@Nonnull final FootStrikeLocation pos, @Nonnull final IAcoustic association) {
 		this.location = pos;
-		this.data = association;
+		this.data.clear();
+		this.data.add(association);
+		return this;
+	}
+
+	public void add(@Nonnull final IAcoustic acoustic) {
+		this.data.add(acoustic);
 	}
 
-	public void merge(@Nonnull final IAcoustic... acoustics) {
-		final IAcoustic[] t = new IAcoustic[1 + acoustics.length];
-		t[0] = this.data;
-		System.arraycopy(acoustics, 0, t, 1, acoustics.length);
-		this.data = AcousticCompiler.combine(t);
+	public void merge(@Nonnull final ObjectArray<IAcoustic> acoustics) {
+		for (int i = 0; i < acoustics.size(); i++)
+			this.data.add(acoustics.get(i));
 	}
 
 	public void play(@Nonnull final AcousticEvent event) {
-		this.data.playAt(this.location.getStrikePosition(), event);
+		final Vector3d pos = this.location.getStrikePosition();
+		for (int i = 0; i < this.data.size(); i++)
+			this.data.get(i).playAt(pos, event);
 	}
 
 	@Nonnull
@@ -68,4 +92,4 @@ public class Association {
 		return this.location.getStepPos();
 	}
 
-}
\ No newline at end of file
+}
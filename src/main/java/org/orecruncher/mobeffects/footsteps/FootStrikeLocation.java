@@ -38,31 +38,43 @@ import org.orecruncher.mobeffects.library.FootstepLibrary;
 @OnlyIn(Dist.CLIENT)
 public final class FootStrikeLocation {
 
-	private final LivingEntity entity;
-	private final Vector3d strike;
-	private final BlockPos stepPos;
+	private LivingEntity entity;
+	private double strikeX;
+	private double strikeY;
+	private double strikeZ;
+	private final BlockPos.Mutable stepPos = new BlockPos.Mutable();
+
+	/**
+	 * Creates an empty location intended to be filled in with set() and reused
+	 */
+	public FootStrikeLocation() {
+
+	}
 
 	public FootStrikeLocation(@Nonnull final LivingEntity entity, final double x, final double y, final double z) {
-		this(entity, new Vector3d(x, y, z));
+		set(entity, x, y, z);
 	}
 
 	public FootStrikeLocation(@Nonnull final LivingEntity entity, @Nonnull final Vector3d loc) {
-		this.entity = entity;
-		this.strike = loc;
-		this.stepPos = new BlockPos(loc);
+		this(entity, loc.x, loc.y, loc.z);
 	}
 
-	protected FootStrikeLocation(@Nonnull final LivingEntity entity, @Nonnull final Vector3d loc,
-			@Nonnull final BlockPos pos) {
+	@Nonnull
+	public FootStrikeLocation set(@Nonnull final LivingEntity entity, final double x, final double y, final double z) {
 		this.entity = entity;
-		this.strike = loc;
-		this.stepPos = pos;
+		this.strikeX = x;
+		this.strikeY = y;
+		this.strikeZ = z;
+		this.stepPos.setPos(x, y, z);
+		return this;
 	}
 
+	/**
+	 * Moves the step position of the location.  The strike position is not changed.
+	 */
+	@Nonnull
 	public FootStrikeLocation rebase(@Nonnull final BlockPos pos) {
-		if (!this.stepPos.equals(pos)) {
-			return new FootStrikeLocation(this.entity, this.strike, pos);
-		}
+		this.stepPos.setPos(pos);
 		return this;
 	}
 
@@ -78,7 +90,19 @@ public final class FootStrikeLocation {
 
 	@Nonnull
 	public Vector3d getStrikePosition() {
-		return this.strike;
+		return new Vector3d(this.strikeX, this.strikeY, this.strikeZ);
+	}
+
+	public double getStrikeX() {
+		return this.strikeX;
+	}
+
+	public double getStrikeY() {
+		return this.strikeY;
+	}
+
+	public double getStrikeZ() {
+		return this.strikeZ;
 	}
 
 	public Vector3d north() {
@@ -110,9 +134,8 @@ public final class FootStrikeLocation {
 	 */
 	@Nonnull
 	public Vector3d offset(@Nonnull final Direction facing, final float n) {
-		return n == 0 ? this.strike
-				: new Vector3d(this.strike.x + facing.getXOffset() * n, this.strike.y + facing.getYOffset() * n,
-						this.strike.z + facing.getZOffset() * n);
+		return new Vector3d(this.strikeX + facing.getXOffset() * n, this.strikeY + facing.getYOffset() * n,
+				this.strikeZ + facing.getZOffset() * n);
 	}
 
 	/**
@@ -153,11 +176,11 @@ public final class FootStrikeLocation {
 		final double collisionY = shape.isEmpty() ? 0 : shape.getEnd(Direction.Axis.Y);
 		final double maxYblock = feetPos.getY() + Math.max(boundingY, collisionY);
 		// Should we get the max of strike.Y and maxYblock?
-		return new Vector3d(this.strike.getX(), maxYblock, this.strike.getZ());
+		return new Vector3d(this.strikeX, maxYblock, this.strikeZ);
 	}
 
 	protected boolean hasFootstepImprint(@Nonnull final BlockState state, @Nonnull final BlockPos pos) {
-		final BlockState footstepState = FacadeHelper.resolveState(this.entity, state, this.entity.getEntityWorld(), Vector3d.copyCentered(pos), Direction.UP);
+		final BlockState footstepState = FacadeHelper.resolveState(this.entity, state, this.entity.getEntityWorld(), pos, Direction.UP);
 		return FootstepLibrary.hasFootprint(footstepState);
 	}
 }
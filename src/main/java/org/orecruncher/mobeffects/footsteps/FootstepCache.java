@@ -0,0 +1,118 @@
+/*
+ * Dynamic Surroundings
+ * Copyright (C) 2020  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.mobeffects.footsteps;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import org.orecruncher.lib.events.BlockUpdateEvent;
+import org.orecruncher.lib.events.DiagnosticEvent;
+import org.orecruncher.mobeffects.MobEffects;
+import org.orecruncher.mobeffects.config.Config;
+import org.orecruncher.sndctrl.api.acoustics.IAcoustic;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * LRU cache of footstep resolutions keyed by the packed position of the block struck.  Resolving a strike looks at
+ * the block, the block above for carpets and foliage, and the block below for fences.  None of that depends on the
+ * entity, so the result can be shared by everything walking over the same spot.  Entries are dropped when a block
+ * update is reported for the block or its neighbors above and below.
+ */
+@Mod.EventBusSubscriber(modid = MobEffects.MOD_ID, value = Dist.CLIENT, bus = Mod.EventBusSubscriber.Bus.FORGE)
+@OnlyIn(Dist.CLIENT)
+public final class FootstepCache {
+    private FootstepCache() {
+
+    }
+
+    private static final int CAPACITY = 512;
+
+    static final class Entry {
+        // Acoustic for the block, NOT_EMITTER if the strike does not make a sound
+        IAcoustic acoustics;
+        // Foliage overlay, if any
+        IAcoustic foliage;
+        // Offset from the struck block to the block that provided the acoustic
+        int stepOffset;
+    }
+
+    private static final Long2ObjectLinkedOpenHashMap<Entry> cache = new Long2ObjectLinkedOpenHashMap<>(CAPACITY);
+    private static long hits;
+    private static long misses;
+
+    @Nullable
+    static Entry get(final long key) {
+        final Entry entry = cache.getAndMoveToLast(key);
+        if (entry != null)
+            hits++;
+        else
+            misses++;
+        return entry;
+    }
+
+    @Nonnull
+    static Entry put(final long key, @Nonnull final IAcoustic acoustics, @Nullable final IAcoustic foliage, final int stepOffset) {
+        // Recycle the least recently used entry when full
+        final Entry entry = cache.size() >= CAPACITY ? cache.removeFirst() : new Entry();
+        entry.acoustics = acoustics;
+        entry.foliage = foliage;
+        entry.stepOffset = stepOffset;
+        cache.putAndMoveToLast(key, entry);
+        return entry;
+    }
+
+    @SubscribeEvent
+    public static void onBlockUpdate(@Nonnull final BlockUpdateEvent event) {
+        if (cache.isEmpty())
+            return;
+        final LongIterator itr = event.getPositions().iterator();
+        while (itr.hasNext()) {
+            final long packed = itr.nextLong();
+            final int x = BlockPos.unpackX(packed);
+            final int y = BlockPos.unpackY(packed);
+            final int z = BlockPos.unpackZ(packed);
+            cache.remove(packed);
+            cache.remove(BlockPos.pack(x, y + 1, z));
+            cache.remove(BlockPos.pack(x, y - 1, z));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(@Nonnull final WorldEvent.Unload event) {
+        if (event.getWorld().isRemote()) {
+            cache.clear();
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    @SubscribeEvent
+    public static void onDiagnostics(@Nonnull final DiagnosticEvent event) {
+        if (Config.CLIENT.logging.enableLogging.get())
+            event.getLeft().add(TextFormatting.GOLD + String.format("Footstep Cache: %d entries, %d hits, %d misses", cache.size(), hits, misses));
+    }
+}
@@ -50,7 +50,6 @@ import org.orecruncher.mobeffects.library.Constants;
 import org.orecruncher.mobeffects.library.FootstepLibrary;
 import org.orecruncher.sndctrl.api.acoustics.AcousticEvent;
 import org.orecruncher.sndctrl.api.acoustics.IAcoustic;
-import org.orecruncher.sndctrl.audio.acoustic.AcousticCompiler;
 
 @OnlyIn(Dist.CLIENT)
 public class Generator {
@@ -92,14 +91,25 @@ public class Generator {
 	protected boolean scalStat;
 	protected boolean stepThisFrame;
 
-	protected BlockPos messyPos = BlockPos.ZERO;
+	protected final BlockPos.Mutable messyPos = new BlockPos.Mutable();
 	protected long brushesTime;
 
 	// We calc our own because of inconsistencies with Minecraft
 	protected double distanceWalkedOnStepModified;
 	protected int pedometer;
 
-	protected static final ObjectArray<IAcoustic> accents = new ObjectArray<>();
+	// Per generator so that footstep processing for different entities does not share state
+	protected final ObjectArray<IAcoustic> accents = new ObjectArray<>(4);
+
+	// Reusable holders for resolving foot strikes.  Each foot has its own because a multifoot event resolves
+	// both feet before playing either.
+	protected final AcousticResolver resolver = new AcousticResolver();
+	protected final FootStrikeLocation leftLocation = new FootStrikeLocation();
+	protected final FootStrikeLocation rightLocation = new FootStrikeLocation();
+	protected final Association leftAssociation = new Association();
+	protected final Association rightAssociation = new Association();
+	protected final Association messyAssociation = new Association();
+	protected final BlockPos.Mutable messyProbe = new BlockPos.Mutable();
 
 	public Generator(@Nonnull final Variator var) {
 		this.VAR = var;
@@ -354,10 +364,10 @@ public class Generator {
 			if (proceedWithStep(entity) && (entity.getMotion().x != 0d || entity.getMotion().z != 0d)) {
 				final int yy = MathStuff
 						.floor(entity.getPosY() - PROBE_DEPTH - entity.getYOffset() - (entity.isOnGround() ? 0d : 0.25d));
-				final BlockPos pos = new BlockPos(entity.getPosX(), yy, entity.getPosZ());
+				final BlockPos pos = this.messyProbe.setPos(entity.getPosX(), yy, entity.getPosZ());
 				if (!this.messyPos.equals(pos)) {
-					this.messyPos = pos;
-					final Association assos = findAssociationMessyFoliage(entity, pos);
+					this.messyPos.setPos(pos);
+					final Association assos = findAssociationMessyFoliage(entity, this.messyPos);
 					if (assos != null)
 						playAssociation(assos, Constants.WALK);
 				}
@@ -422,13 +432,13 @@ public class Generator {
 		final double xx = entity.getPosX() + MathStuff.cos(rot) * feetDistanceToCenter;
 		final double zz = entity.getPosZ() + MathStuff.sin(rot) * feetDistanceToCenter;
 		final double minY = entity.getBoundingBox().minY;
-		final FootStrikeLocation loc = new FootStrikeLocation(entity, xx, minY - PROBE_DEPTH - verticalOffsetAsMinus,
-				zz);
+		final FootStrikeLocation loc = (isRightFoot ? this.rightLocation : this.leftLocation)
+				.set(entity, xx, minY - PROBE_DEPTH - verticalOffsetAsMinus, zz);
+		final Association holder = isRightFoot ? this.rightAssociation : this.leftAssociation;
 
-		final AcousticResolver resolver = new AcousticResolver(entity.getEntityWorld(), loc,
-				this.VAR.DISTANCE_TO_CENTER);
+		this.resolver.set(entity.getEntityWorld(), loc, this.VAR.DISTANCE_TO_CENTER);
 
-		final Association result = addFootstepAccent(entity, resolver.findAssociation());
+		final Association result = addFootstepAccent(entity, this.resolver.findAssociation(holder) ? holder : null, holder);
 
 		// It is possible that the association has no position, so it
 		// needs to be checked.
@@ -482,15 +492,14 @@ public class Generator {
 	@Nullable
 	protected Association findAssociationMessyFoliage(@Nonnull final LivingEntity entity, @Nonnull final BlockPos pos) {
 		Association result = null;
-		final BlockPos up = pos.up();
-		final BlockState above = entity.getEntityWorld().getBlockState(up);
+		final BlockState above = entity.getEntityWorld().getBlockState(this.messyProbe.setPos(pos.getX(), pos.getY() + 1, pos.getZ()));
 
 		if (above.getMaterial() != Material.AIR) {
 			IAcoustic acoustics = FootstepLibrary.getBlockAcoustics(above, Substrate.MESSY);
 			if (acoustics == Constants.MESSY_GROUND) {
 				acoustics = FootstepLibrary.getBlockAcoustics(above, Substrate.FOLIAGE);
 				if (acoustics != Constants.NOT_EMITTER) {
-					result = new Association(entity, acoustics);
+					result = this.messyAssociation.set(entity, acoustics);
 				}
 			}
 		}
@@ -502,18 +511,19 @@ public class Generator {
 	 * aspects, such as armor being worn.
 	 */
 	@Nullable
-	protected Association addFootstepAccent(@Nonnull final LivingEntity entity, @Nullable Association assoc) {
+	protected Association addFootstepAccent(@Nonnull final LivingEntity entity, @Nullable Association assoc, @Nonnull final Association holder) {
 		// Don't apply overlays if the entity is not on the ground
 		if (entity.isOnGround()) {
-			accents.clear();
+			this.accents.clear();
 			final BlockPos pos = assoc != null ? assoc.getStepPos() : entity.getPosition();
-			FootstepAccents.provide(entity, pos, accents);
-			if (accents.size() > 0) {
+			FootstepAccents.provide(entity, pos, this.accents);
+			if (this.accents.size() > 0) {
 				if (assoc == null) {
-					final IAcoustic acoustic = AcousticCompiler.combine(accents);
-					assoc = new Association(entity, acoustic);
+					assoc = holder.set(entity, this.accents.get(0));
+					for (int i = 1; i < this.accents.size(); i++)
+						assoc.add(this.accents.get(i));
 				} else {
-					assoc.merge(accents.toArray(new IAcoustic[0]));
+					assoc.merge(this.accents);
 				}
 			}
 		}
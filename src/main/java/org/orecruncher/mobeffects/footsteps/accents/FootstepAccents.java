@@ -35,19 +35,19 @@ public class FootstepAccents {
 
     }
 
-    private static final ObjectArray<IFootstepAccentProvider> providers = new ObjectArray<>();
-
-    static {
-        providers.add(new ArmorAccents());
-        providers.add(new RainSplashAccent());
-        providers.add(new WaterLoggedAccent());
-    }
+    // Providers are stateless so they can be used by any number of generators at once.  Results go into the
+    // buffer supplied by the caller.
+    private static final IFootstepAccentProvider[] providers = {
+            new ArmorAccents(),
+            new RainSplashAccent(),
+            new WaterLoggedAccent()
+    };
 
     public static void provide(@Nonnull final LivingEntity entity, @Nonnull final BlockPos pos, @Nonnull final ObjectArray<IAcoustic> in) {
         final BlockState state = entity.getEntityWorld().getBlockState(pos);
-        providers.forEach(provider -> {
+        for (final IFootstepAccentProvider provider : providers) {
             if (provider.isEnabled())
                 provider.provide(entity, pos, state, in);
-        });
+        }
     }
 }
\ No newline at end of file
@@ -29,6 +29,7 @@ import net.minecraft.block.BlockState;
 import net.minecraft.block.material.Material;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.world.IWorldReader;
 import net.minecraftforge.api.distmarker.Dist;
@@ -91,4 +92,22 @@ public final class FacadeHelper {
 		return state;
 	}
 
+	/**
+	 * Same as above but takes a block position.  The vector needed by the accessor is only created if the block has
+	 * an accessor.
+	 */
+	@Nonnull
+	public static BlockState resolveState(@Nonnull final LivingEntity entity, @Nonnull final BlockState state,
+										  @Nonnull final IWorldReader world, @Nonnull final BlockPos pos, @Nullable final Direction side) {
+		if (crackers.size() > 0 && state.getMaterial() != Material.AIR) {
+			final IFacadeAccessor accessor = crackers.get(state.getBlock());
+			if (accessor != null) {
+				final BlockState newState = accessor.getBlockState(entity, state, world, Vector3d.copyCentered(pos), side);
+				if (newState != null)
+					return newState;
+			}
+		}
+		return state;
+	}
+
 }
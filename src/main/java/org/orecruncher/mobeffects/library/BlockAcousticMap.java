@@ -61,11 +61,9 @@ public final class BlockAcousticMap {
 		IAcoustic result;
 		final ObjectArray<Pair<BlockStateMatcher, IAcoustic>> entries = this.data.get(state.getBlock());
 		if (entries != null) {
-			final BlockStateMatcher matcher = BlockStateMatcher.create(state);
-			result = find(entries, matcher);
-			if (result != null)
-				return result;
-			result = find(entries, BlockStateMatcher.asGeneric(state));
+			// Generic entries match any state of the block, so a single pass covers both the specific and the
+			// generic lookups without having to create matchers for the state.
+			result = find(entries, state);
 			if (result != null)
 				return result;
 		}
@@ -75,11 +73,11 @@ public final class BlockAcousticMap {
 
 	@Nullable
 	private IAcoustic find(@Nonnull final ObjectArray<Pair<BlockStateMatcher, IAcoustic>> entries,
-						   @Nonnull final BlockStateMatcher matcher) {
+						   @Nonnull final BlockState state) {
 		// Search backwards. In general highly specified states are at the end of the array.
 		for (int i = entries.size() - 1; i >= 0; i--) {
 			final Pair<BlockStateMatcher, IAcoustic> e = entries.get(i);
-			if (matcher.equals(e.getKey()))
+			if (e.getKey().matches(state))
 				return e.getValue();
 		}
 		return null;
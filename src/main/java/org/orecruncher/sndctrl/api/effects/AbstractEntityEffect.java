@@ -90,6 +90,15 @@ public abstract class AbstractEntityEffect {
 		return false;
 	}
 
+	/**
+	 * Indicates to the EntityEffectHandler that the EntityEffect can skip ticks
+	 * when the Entity is far from the player. Effects that track per tick state,
+	 * such as footsteps or swing transitions, must not be deferred.
+	 */
+	public boolean isDeferrable() {
+		return false;
+	}
+
 	/**
 	 * Called when the EntityEffectHandler is cleaning up giving the EntityEffect a
 	 * chance to do some house cleaning, like unregistering events.
@@ -25,7 +25,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.vector.Vector3d;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
-import org.orecruncher.lib.WeightTable;
+import org.orecruncher.lib.AliasWeightTable;
 import org.orecruncher.sndctrl.api.acoustics.AcousticEvent;
 import org.orecruncher.sndctrl.api.acoustics.IAcoustic;
 import org.orecruncher.sndctrl.api.acoustics.IAcousticFactory;
@@ -41,24 +41,36 @@ import java.util.Optional;
 public class ProbabilityAcoustic implements IAcoustic {
 
     protected final ResourceLocation name;
-    protected final WeightTable<IAcoustic> table;
+    protected AliasWeightTable.Builder<IAcoustic> builder = new AliasWeightTable.Builder<>();
+    protected AliasWeightTable<IAcoustic> table;
 
     public ProbabilityAcoustic(@Nonnull final ResourceLocation name) {
         this.name = Objects.requireNonNull(name);
-        this.table = new WeightTable<>();
     }
 
     public void add(@Nonnull final IAcoustic acoustic, final int weight) {
-        this.table.add(acoustic, weight);
+        if (this.builder == null)
+            throw new IllegalStateException("Acoustic " + this.name + " cannot be modified once it has been used");
+        this.builder.add(acoustic, weight);
     }
 
     public void trim() {
-        this.table.trim();
+        getTable();
+    }
+
+    @Nonnull
+    private AliasWeightTable<IAcoustic> getTable() {
+        // The table is built from the entries on first use, after which the builder is no longer needed
+        if (this.table == null) {
+            this.table = this.builder.build();
+            this.builder = null;
+        }
+        return this.table;
     }
 
     @Nonnull
     private Optional<IAcoustic> select() {
-        return Optional.ofNullable(this.table.next());
+        return Optional.ofNullable(getTable().next());
     }
 
     @Override
@@ -104,7 +116,7 @@ public class ProbabilityAcoustic implements IAcoustic {
 
     @Override
     public String toString() {
-        return MoreObjects.toStringHelper(this).addValue(getName().toString()).add("entries", this.table.size()).toString();
+        return MoreObjects.toStringHelper(this).addValue(getName().toString()).add("entries", this.table != null ? this.table.size() : this.builder.size()).toString();
     }
 
 }
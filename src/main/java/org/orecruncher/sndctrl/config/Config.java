@@ -192,6 +192,8 @@ public final class Config {
 
             public final BooleanValue fixupRandoms;
             public final IntValue effectRange;
+            public final IntValue motePoolSize;
+            public final IntValue particleBudget;
 
             Effects(@Nonnull final ForgeConfigSpec.Builder builder) {
                 builder.comment("Defines parameters for special effects")
@@ -209,6 +211,17 @@ public final class Config {
                         .translation("sndctrl.cfg.effects.BlockRange")
                         .defineInRange("Block Range", 24, 16, 64);
 
+                this.motePoolSize = builder
+                        .worldRestart()
+                        .comment("Number of dead particles of each type to hold for reuse")
+                        .translation("sndctrl.cfg.effects.MotePoolSize")
+                        .defineInRange("Particle Pool Size", 512, 0, 4000);
+
+                this.particleBudget = builder
+                        .comment("Milliseconds per frame that particle collections can use before distant particles are scaled back")
+                        .translation("sndctrl.cfg.effects.ParticleBudget")
+                        .defineInRange("Particle Time Budget", 4, 1, 50);
+
                 builder.pop();
             }
         }
@@ -0,0 +1,90 @@
+/*
+ * Dynamic Surroundings
+ * Copyright (C) 2020  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.dsurround.huds.lightlevel;
+
+/**
+ * Simple timing of LabelMesh.assemble() against transforming each vertex through a full 4x4 matrix, which is what
+ * pushing a matrix per label amounts to.  It is not part of the test run; run the main method to get numbers.
+ */
+public final class LabelMeshBenchmark {
+
+    private static final int[] VERTEX_COUNTS = {4, 8, 16};
+    private static final int LABELS = 2000000;
+    private static final int ROUNDS = 5;
+
+    private LabelMeshBenchmark() {
+
+    }
+
+    public static void main(final String[] args) {
+        final float[] basis = {0.6F, -0.2F, 0.75F, 0.1F, 0.95F, 0.3F};
+        final float[] matrix = {
+                basis[0], basis[3], 0.4F, 3.0F,
+                basis[1], basis[4], -0.1F, 64.0F,
+                basis[2], basis[5], 0.9F, -7.0F,
+                0, 0, 0, 1
+        };
+
+        for (final int vertices : VERTEX_COUNTS) {
+            final float[] glyphs = new float[vertices * LabelMesh.BAKED_FLOATS_PER_VERTEX];
+            for (int i = 0; i < glyphs.length; i++)
+                glyphs[i] = (i * 7) % 11;
+            final float[] out = new float[vertices * LabelMesh.FLOATS_PER_VERTEX];
+
+            long matrixNanos = Long.MAX_VALUE;
+            long meshNanos = Long.MAX_VALUE;
+            float sink = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                for (int l = 0; l < LABELS; l++) {
+                    matrix[3] = l & 0xFF;
+                    transform(matrix, glyphs, vertices, out);
+                    sink += out[0];
+                }
+                matrixNanos = Math.min(matrixNanos, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                for (int l = 0; l < LABELS; l++) {
+                    LabelMesh.assemble(glyphs, vertices, l & 0xFF, 64.0F, -7.0F, basis, out);
+                    sink += out[0];
+                }
+                meshNanos = Math.min(meshNanos, System.nanoTime() - start);
+            }
+
+            System.out.println(String.format("%3d vertices: full matrix %.2fns, LabelMesh %.2fns per label (%.1f)",
+                    vertices, (double) matrixNanos / LABELS, (double) meshNanos / LABELS, sink));
+        }
+    }
+
+    private static void transform(final float[] m, final float[] glyphs, final int vertices, final float[] out) {
+        for (int i = 0; i < vertices; i++) {
+            final int src = i * LabelMesh.BAKED_FLOATS_PER_VERTEX;
+            final int dst = i * LabelMesh.FLOATS_PER_VERTEX;
+            final float x = glyphs[src];
+            final float y = glyphs[src + 1];
+            final float z = 0;
+            final float w = m[12] * x + m[13] * y + m[14] * z + m[15];
+            out[dst] = (m[0] * x + m[1] * y + m[2] * z + m[3]) / w;
+            out[dst + 1] = (m[4] * x + m[5] * y + m[6] * z + m[7]) / w;
+            out[dst + 2] = (m[8] * x + m[9] * y + m[10] * z + m[11]) / w;
+            out[dst + 3] = glyphs[src + 2];
+            out[dst + 4] = glyphs[src + 3];
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Dynamic Surroundings
+ * Copyright (C) 2020  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.dsurround.huds.lightlevel;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+import static org.orecruncher.dsurround.huds.lightlevel.LabelMesh.BAKED_FLOATS_PER_VERTEX;
+import static org.orecruncher.dsurround.huds.lightlevel.LabelMesh.FLOATS_PER_VERTEX;
+
+public class LabelMeshTest {
+
+    private static final float DELTA = 0.0001F;
+
+    // Two glyph quads, x, y, u, v per vertex
+    private static final float[] GLYPHS = {
+            0.0F, 0.0F, 0.10F, 0.20F,
+            0.0F, 9.0F, 0.10F, 0.30F,
+            5.0F, 9.0F, 0.15F, 0.30F,
+            5.0F, 0.0F, 0.15F, 0.20F,
+            6.0F, -1.0F, 0.50F, 0.60F,
+            6.0F, 8.0F, 0.50F, 0.70F,
+            11.0F, 8.0F, 0.55F, 0.70F,
+            11.0F, -1.0F, 0.55F, 0.60F
+    };
+    private static final int VERTICES = GLYPHS.length / BAKED_FLOATS_PER_VERTEX;
+
+    @Test
+    public void identityBasisOffsetsByOrigin() {
+        final float[] basis = {1, 0, 0, 0, 1, 0};
+        final float[] out = new float[VERTICES * FLOATS_PER_VERTEX];
+        LabelMesh.assemble(GLYPHS, VERTICES, 10, 20, 30, basis, out);
+        for (int i = 0; i < VERTICES; i++) {
+            final int src = i * BAKED_FLOATS_PER_VERTEX;
+            final float[] expected = {10 + GLYPHS[src], 20 + GLYPHS[src + 1], 30, GLYPHS[src + 2], GLYPHS[src + 3]};
+            assertArrayEquals(expected, vertex(out, i), DELTA);
+        }
+    }
+
+    @Test
+    public void knownMatrixPlacesVertex() {
+        // Translate (10, 20, 30), rotate 90 degrees about Y, scale by 2.  Label X maps to -Z and label Y to +Y.
+        final float[] matrix = {
+                0, 0, 2, 10,
+                0, 2, 0, 20,
+                -2, 0, 0, 30,
+                0, 0, 0, 1
+        };
+        final float[] out = new float[VERTICES * FLOATS_PER_VERTEX];
+        LabelMesh.assemble(GLYPHS, VERTICES, matrix[3], matrix[7], matrix[11], basisOf(matrix), out);
+
+        // Glyph vertex (5, 9) lands at (10, 20 + 18, 30 - 10)
+        assertArrayEquals(new float[]{10, 38, 20, 0.15F, 0.30F}, vertex(out, 2), DELTA);
+        // Glyph vertex (11, -1) lands at (10, 20 - 2, 30 - 22)
+        assertArrayEquals(new float[]{10, 18, 8, 0.55F, 0.60F}, vertex(out, 7), DELTA);
+    }
+
+    @Test
+    public void matchesFullMatrixTransform() {
+        // Camera rotated about two axes and translated, with the label rotated and scaled the way the HUD does it
+        final float[] camera = multiply(rotateX(-35), multiply(rotateY(120), translate(-3.5F, 1.25F, 7.0F)));
+        final float[] label = multiply(translate(2.5F, 64.0F, -8.5F),
+                multiply(rotateY(180), multiply(rotateX(90), scale(-0.025F, -0.025F, 0.025F))));
+        final float[] matrix = multiply(camera, label);
+
+        final float[] out = new float[VERTICES * FLOATS_PER_VERTEX];
+        LabelMesh.assemble(GLYPHS, VERTICES, matrix[3], matrix[7], matrix[11], basisOf(matrix), out);
+        for (int i = 0; i < VERTICES; i++) {
+            final int src = i * BAKED_FLOATS_PER_VERTEX;
+            final float gx = GLYPHS[src];
+            final float gy = GLYPHS[src + 1];
+            final float[] expected = {
+                    matrix[0] * gx + matrix[1] * gy + matrix[3],
+                    matrix[4] * gx + matrix[5] * gy + matrix[7],
+                    matrix[8] * gx + matrix[9] * gy + matrix[11],
+                    GLYPHS[src + 2],
+                    GLYPHS[src + 3]
+            };
+            assertArrayEquals(expected, vertex(out, i), DELTA);
+        }
+    }
+
+    @Test
+    public void onlyRequestedVerticesAreWritten() {
+        final float[] basis = {1, 0, 0, 0, 1, 0};
+        final float[] out = new float[VERTICES * FLOATS_PER_VERTEX];
+        Arrays.fill(out, -99);
+        LabelMesh.assemble(GLYPHS, 4, 0, 0, 0, basis, out);
+        for (int i = 4 * FLOATS_PER_VERTEX; i < out.length; i++)
+            assertEquals(-99, out[i], 0);
+    }
+
+    private static float[] vertex(final float[] out, final int index) {
+        final float[] result = new float[FLOATS_PER_VERTEX];
+        System.arraycopy(out, index * FLOATS_PER_VERTEX, result, 0, FLOATS_PER_VERTEX);
+        return result;
+    }
+
+    // Matrices are row major 4x4 and transform column vectors, the same as Matrix4f
+    private static float[] basisOf(final float[] m) {
+        return new float[]{m[0], m[4], m[8], m[1], m[5], m[9]};
+    }
+
+    private static float[] multiply(final float[] a, final float[] b) {
+        final float[] result = new float[16];
+        for (int r = 0; r < 4; r++)
+            for (int c = 0; c < 4; c++)
+                for (int k = 0; k < 4; k++)
+                    result[r * 4 + c] += a[r * 4 + k] * b[k * 4 + c];
+        return result;
+    }
+
+    private static float[] translate(final float x, final float y, final float z) {
+        return new float[]{1, 0, 0, x, 0, 1, 0, y, 0, 0, 1, z, 0, 0, 0, 1};
+    }
+
+    private static float[] scale(final float x, final float y, final float z) {
+        return new float[]{x, 0, 0, 0, 0, y, 0, 0, 0, 0, z, 0, 0, 0, 0, 1};
+    }
+
+    private static float[] rotateX(final float degrees) {
+        final float c = (float) Math.cos(Math.toRadians(degrees));
+        final float s = (float) Math.sin(Math.toRadians(degrees));
+        return new float[]{1, 0, 0, 0, 0, c, -s, 0, 0, s, c, 0, 0, 0, 0, 1};
+    }
+
+    private static float[] rotateY(final float degrees) {
+        final float c = (float) Math.cos(Math.toRadians(degrees));
+        final float s = (float) Math.sin(Math.toRadians(degrees));
+        return new float[]{c, 0, s, 0, 0, 1, 0, 0, -s, 0, c, 0, 0, 0, 0, 1};
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Dynamic Surroundings
+ *  Copyright (C) 2020  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.environs.shaders.aurora;
+
+/**
+ * Simple timing of PanelGeometry.update() for band lengths matching the aurora presets.  It is not part of the test
+ * run; run the main method to get numbers.
+ */
+public final class PanelGeometryBenchmark {
+
+    private static final int[] LENGTHS = {64, 128};
+    private static final int UPDATES = 200000;
+    private static final int ROUNDS = 5;
+
+    private PanelGeometryBenchmark() {
+
+    }
+
+    public static void main(final String[] args) {
+        for (final int length : LENGTHS) {
+            final float[] nodeX = new float[length];
+            final float[] nodeZ = new float[length];
+            final float[] nodeY = new float[length];
+            for (int i = 0; i < length; i++) {
+                nodeX[i] = i * 15.0F;
+                nodeZ[i] = (i * 7) % 13;
+                nodeY[i] = 180.0F + (i % 5);
+            }
+            final float[] quads = PanelGeometry.create(nodeX);
+
+            long nanos = Long.MAX_VALUE;
+            float sink = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                final long start = System.nanoTime();
+                for (int i = 0; i < UPDATES; i++) {
+                    nodeY[i % length] += 0.001F;
+                    PanelGeometry.update(quads, nodeZ, nodeY);
+                    sink += quads[7];
+                }
+                nanos = Math.min(nanos, System.nanoTime() - start);
+            }
+
+            System.out.println(String.format("%4d nodes: update %.2fns, %.3fns per panel (%.1f)",
+                    length, (double) nanos / UPDATES, (double) nanos / UPDATES / (length - 1), sink));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ *  Dynamic Surroundings
+ *  Copyright (C) 2020  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.environs.shaders.aurora;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+import static org.orecruncher.environs.shaders.aurora.PanelGeometry.FLOATS_PER_QUAD;
+
+public class PanelGeometryTest {
+
+    private static final float DELTA = 0.0001F;
+
+    private static final float[] NODE_X = {-2.0F, 1.0F, 5.0F, 6.5F};
+    private static final float[] NODE_Z = {3.0F, -4.0F, 0.5F, 8.0F};
+    private static final float[] NODE_Y = {10.0F, 0.0F, 25.0F, 7.0F};
+
+    @Test
+    public void createHoldsOneQuadPerPanel() {
+        assertEquals(0, PanelGeometry.create(new float[0]).length);
+        assertEquals(0, PanelGeometry.create(new float[]{1.0F}).length);
+        assertEquals((NODE_X.length - 1) * FLOATS_PER_QUAD, PanelGeometry.create(NODE_X).length);
+    }
+
+    @Test
+    public void createFillsFixedCoordinates() {
+        final float[] quads = PanelGeometry.create(NODE_X);
+        for (int i = 0; i < NODE_X.length - 1; i++) {
+            final float xA = NODE_X[i];
+            final float xB = NODE_X[i + 1];
+            final float[] expected = {
+                    xA, 0, 0,
+                    xB, 0, 0,
+                    xB, 0, 0,
+                    xA, 0, 0
+            };
+            assertArrayEquals(expected, quad(quads, i), DELTA);
+        }
+    }
+
+    @Test
+    public void updateWritesVerticesInQuadOrder() {
+        final float[] quads = PanelGeometry.create(NODE_X);
+        PanelGeometry.update(quads, NODE_Z, NODE_Y);
+        for (int i = 0; i < NODE_X.length - 1; i++) {
+            // Lower left, lower right, upper right, upper left
+            final float[] expected = {
+                    NODE_X[i], 0, NODE_Z[i],
+                    NODE_X[i + 1], 0, NODE_Z[i + 1],
+                    NODE_X[i + 1], NODE_Y[i + 1], NODE_Z[i + 1],
+                    NODE_X[i], NODE_Y[i], NODE_Z[i]
+            };
+            assertArrayEquals(expected, quad(quads, i), DELTA);
+        }
+    }
+
+    @Test
+    public void updateOnlyRewritesAnimatedCoordinates() {
+        final float[] quads = PanelGeometry.create(NODE_X);
+        PanelGeometry.update(quads, NODE_Z, NODE_Y);
+        PanelGeometry.update(quads, NODE_Y, NODE_Z);
+        for (int i = 0; i < NODE_X.length - 1; i++) {
+            final int base = i * FLOATS_PER_QUAD;
+            assertEquals(NODE_X[i], quads[base], DELTA);
+            assertEquals(0, quads[base + 1], DELTA);
+            assertEquals(NODE_X[i + 1], quads[base + 3], DELTA);
+            assertEquals(0, quads[base + 4], DELTA);
+            assertEquals(NODE_X[i + 1], quads[base + 6], DELTA);
+            assertEquals(NODE_Z[i + 1], quads[base + 7], DELTA);
+            assertEquals(NODE_X[i], quads[base + 9], DELTA);
+            assertEquals(NODE_Z[i], quads[base + 10], DELTA);
+        }
+    }
+
+    @Test
+    public void bandKeepsUpperYAtOrAboveZero() {
+        final FixedBand band = new FixedBand();
+        for (int tick = 0; tick < 480; tick++) {
+            band.update();
+            band.translate(0.5F);
+            final float[] quads = band.getPanelQuads();
+            assertEquals(band.getPanelCount() * FLOATS_PER_QUAD, quads.length);
+            for (int i = 0; i < band.getPanelCount(); i++) {
+                final int base = i * FLOATS_PER_QUAD;
+                assertEquals(0, quads[base + 1], DELTA);
+                assertEquals(0, quads[base + 4], DELTA);
+                assertEquals(band.nodeY[i + 1], quads[base + 7], DELTA);
+                assertEquals(band.nodeY[i], quads[base + 10], DELTA);
+                assertTrue("Upper Y below zero", quads[base + 7] >= 0 && quads[base + 10] >= 0);
+            }
+            // Node 0 is high enough that the wave never reaches the clamp, node 3 is always clamped
+            assertTrue(quads[10] >= FixedBand.HEIGHTS[0] - 3.0F - DELTA);
+            assertEquals(0, quads[2 * FLOATS_PER_QUAD + 7], DELTA);
+        }
+    }
+
+    private static float[] quad(final float[] quads, final int panel) {
+        final float[] result = new float[FLOATS_PER_QUAD];
+        System.arraycopy(quads, panel * FLOATS_PER_QUAD, result, 0, FLOATS_PER_QUAD);
+        return result;
+    }
+
+    /**
+     * Band with fixed node heights, some of them low enough that the wave offset takes them below zero.
+     */
+    private static final class FixedBand extends AuroraBand {
+
+        static final float[] HEIGHTS = {180.0F, 2.0F, -1.0F, -10.0F, 1.5F};
+
+        FixedBand() {
+            super(new Random(0), null);
+        }
+
+        @Override
+        protected void preset(final AuroraFactory.AuroraGeometry geo) {
+            this.length = HEIGHTS.length;
+            this.nodeLength = 15.0F;
+            this.nodeWidth = 2.0F;
+        }
+
+        @Override
+        protected Panel[] populate() {
+            final Panel[] panels = new Panel[HEIGHTS.length];
+            for (int i = 0; i < panels.length; i++)
+                panels[i] = new Panel(i * this.nodeLength, HEIGHTS[i], 0.0F);
+            return panels;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Dynamic Surroundings: Sound Control
+ * Copyright (C) 2019  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.lib;
+
+/**
+ * Simple timing comparison of selections from WeightTable and AliasWeightTable.  It is not part of the test run; run
+ * the main method to get numbers.
+ */
+public final class AliasWeightTableBenchmark {
+
+    private static final int[] SIZES = {2, 8, 32, 128};
+    private static final int DRAWS = 5000000;
+    private static final int ROUNDS = 5;
+
+    private AliasWeightTableBenchmark() {
+
+    }
+
+    public static void main(final String[] args) {
+        for (final int size : SIZES) {
+            final WeightTable<Integer> linear = new WeightTable<>();
+            final AliasWeightTable.Builder<Integer> builder = new AliasWeightTable.Builder<>();
+            for (int i = 0; i < size; i++) {
+                final int weight = 1 + (i * 7) % 13;
+                linear.add(i, weight);
+                builder.add(i, weight);
+            }
+            final AliasWeightTable<Integer> alias = builder.build();
+
+            long linearNanos = Long.MAX_VALUE;
+            long aliasNanos = Long.MAX_VALUE;
+            long sink = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                for (int i = 0; i < DRAWS; i++)
+                    sink += linear.next();
+                linearNanos = Math.min(linearNanos, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                for (int i = 0; i < DRAWS; i++)
+                    sink += alias.next();
+                aliasNanos = Math.min(aliasNanos, System.nanoTime() - start);
+            }
+
+            System.out.println(String.format("%4d entries: WeightTable %.2fns, AliasWeightTable %.2fns (%d)",
+                    size, (double) linearNanos / DRAWS, (double) aliasNanos / DRAWS, sink));
+        }
+    }
+}
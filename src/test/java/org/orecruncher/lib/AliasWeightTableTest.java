@@ -0,0 +1,176 @@
+/*
+ * Dynamic Surroundings: Sound Control
+ * Copyright (C) 2019  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.lib;
+
+import org.junit.Test;
+import org.orecruncher.lib.random.XorShiftRandom;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class AliasWeightTableTest {
+
+    private static final int DRAWS = 200000;
+
+    // Chi-square critical values at p = 0.001 indexed by degrees of freedom
+    private static final double[] CRITICAL = {0, 10.828, 13.816, 16.266, 18.467, 20.515};
+
+    private static AliasWeightTable<Integer> create(final int... weights) {
+        final AliasWeightTable.Builder<Integer> builder = new AliasWeightTable.Builder<>();
+        for (int i = 0; i < weights.length; i++)
+            builder.add(i, weights[i]);
+        return builder.build();
+    }
+
+    private static int[] sample(final AliasWeightTable<Integer> table, final BitSet mask) {
+        final Random random = new XorShiftRandom(0x1234L);
+        final int[] counts = new int[table.size()];
+        for (int i = 0; i < DRAWS; i++) {
+            final Integer item = mask == null ? table.next(random) : table.next(random, mask);
+            assertNotNull(item);
+            counts[item]++;
+        }
+        return counts;
+    }
+
+    private static void assertDistribution(final int[] weights, final int[] counts, final BitSet mask) {
+        int total = 0;
+        int degrees = -1;
+        for (int i = 0; i < weights.length; i++) {
+            if (mask == null || mask.get(i)) {
+                total += weights[i];
+                if (weights[i] > 0)
+                    degrees++;
+            }
+        }
+
+        double chiSquare = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (mask != null && !mask.get(i) || weights[i] == 0) {
+                assertEquals("Ineligible entry " + i + " was selected", 0, counts[i]);
+                continue;
+            }
+            final double expected = (double) DRAWS * weights[i] / total;
+            final double delta = counts[i] - expected;
+            chiSquare += delta * delta / expected;
+        }
+
+        assertTrue("Chi-square " + chiSquare + " exceeds " + CRITICAL[degrees], chiSquare < CRITICAL[degrees]);
+    }
+
+    @Test
+    public void distributionMatchesWeights() {
+        final int[] weights = {1, 2, 3, 4, 10};
+        assertDistribution(weights, sample(create(weights), null), null);
+    }
+
+    @Test
+    public void distributionWithUnevenWeights() {
+        final int[] weights = {97, 1, 1, 1};
+        assertDistribution(weights, sample(create(weights), null), null);
+    }
+
+    @Test
+    public void filteredDistributionMatchesWeights() {
+        final int[] weights = {1, 2, 3, 4, 10};
+        final BitSet mask = new BitSet();
+        mask.set(1);
+        mask.set(3);
+        mask.set(4);
+        assertDistribution(weights, sample(create(weights), mask), mask);
+    }
+
+    @Test
+    public void filteredWithAllEligibleMatchesWeights() {
+        final int[] weights = {5, 1, 3};
+        final BitSet mask = new BitSet();
+        mask.set(0, weights.length);
+        assertDistribution(weights, sample(create(weights), mask), mask);
+    }
+
+    @Test
+    public void filteredWithNothingEligible() {
+        final AliasWeightTable<Integer> table = create(1, 2, 3);
+        assertNull(table.next(new XorShiftRandom(1L), new BitSet()));
+    }
+
+    @Test
+    public void fillSetsMatchingEntries() {
+        final AliasWeightTable<Integer> table = create(1, 1, 1, 1, 1);
+        final BitSet mask = new BitSet();
+        mask.set(10);
+        table.fill(mask, i -> i % 2 == 0);
+        assertEquals(3, mask.cardinality());
+        assertTrue(mask.get(0) && mask.get(2) && mask.get(4));
+    }
+
+    @Test
+    public void zeroWeightEntriesAreNeverSelected() {
+        final int[] weights = {0, 5, 0, 5, 0};
+        final AliasWeightTable<Integer> table = create(weights);
+        assertEquals(10, table.getTotalWeight());
+        assertDistribution(weights, sample(table, null), null);
+    }
+
+    @Test
+    public void zeroWeightEntriesInMask() {
+        final AliasWeightTable<Integer> table = create(0, 5, 0);
+        final BitSet mask = new BitSet();
+        mask.set(0);
+        mask.set(2);
+        assertNull(table.next(new XorShiftRandom(1L), mask));
+    }
+
+    @Test
+    public void negativeWeightsAreTreatedAsZero() {
+        final int[] weights = {-5, 3, 1};
+        final AliasWeightTable<Integer> table = create(weights);
+        assertEquals(4, table.getTotalWeight());
+        assertDistribution(new int[]{0, 3, 1}, sample(table, null), null);
+    }
+
+    @Test
+    public void singleEntry() {
+        final AliasWeightTable<Integer> table = create(7);
+        final Random random = new XorShiftRandom(1L);
+        for (int i = 0; i < 100; i++)
+            assertEquals(Integer.valueOf(0), table.next(random));
+
+        final BitSet mask = new BitSet();
+        mask.set(0);
+        assertEquals(Integer.valueOf(0), table.next(random, mask));
+    }
+
+    @Test
+    public void singleEntryWithoutWeight() {
+        final AliasWeightTable<Integer> table = create(0);
+        assertEquals(1, table.size());
+        assertNull(table.next(new XorShiftRandom(1L)));
+    }
+
+    @Test
+    public void emptyTable() {
+        final AliasWeightTable<Integer> table = create();
+        assertEquals(0, table.size());
+        assertNull(table.next(new XorShiftRandom(1L)));
+        assertNull(table.next(new XorShiftRandom(1L), new BitSet()));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Dynamic Surroundings
+ * Copyright (C) 2020  OreCruncher
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package org.orecruncher.lib.particles;
+
+import com.mojang.blaze3d.vertex.IVertexBuilder;
+import net.minecraft.client.renderer.ActiveRenderInfo;
+import net.minecraft.util.math.vector.Vector3d;
+import org.orecruncher.lib.collections.ObjectArray;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Simple timing of the MoteStorage tick loop against ticking motes held in an ObjectArray, with the distance checks
+ * reading the mote objects.  The motes are stand-ins that drift, so the numbers show the cost of the storage rather
+ * than of any real mote.  It is not part of the test run; run the main method to get numbers.
+ */
+public final class MoteStorageBenchmark {
+
+    private static final int[] SIZES = {256, 2048, 8192};
+    private static final int TICKS = 2000;
+    private static final int ROUNDS = 5;
+    private static final double FAR_RANGE_SQ = 32 * 32;
+
+    private MoteStorageBenchmark() {
+
+    }
+
+    private static final class DriftMote implements IParticleMote {
+
+        private double x;
+        private double y;
+        private double z;
+        private final double dX;
+        private final double dZ;
+
+        DriftMote(final int idx) {
+            this.x = (idx % 64) - 32;
+            this.y = 64;
+            this.z = ((idx / 64) % 64) - 32;
+            this.dX = ((idx * 7) % 13 - 6) * 0.01D;
+            this.dZ = ((idx * 11) % 17 - 8) * 0.01D;
+        }
+
+        @Override
+        public boolean isAlive() {
+            return true;
+        }
+
+        @Override
+        public void kill() {
+
+        }
+
+        @Override
+        public boolean tick() {
+            return tick(1);
+        }
+
+        @Override
+        public boolean tick(final int steps) {
+            this.x += this.dX * steps;
+            this.z += this.dZ * steps;
+            return true;
+        }
+
+        @Override
+        public void release() {
+
+        }
+
+        @Override
+        public void renderParticle(@Nonnull final IVertexBuilder buffer, @Nonnull final ActiveRenderInfo renderInfo, final float partialTicks) {
+
+        }
+
+        @Nonnull
+        @Override
+        public Vector3d getPosition() {
+            return new Vector3d(this.x, this.y, this.z);
+        }
+
+        @Override
+        public double getX() {
+            return this.x;
+        }
+
+        @Override
+        public double getY() {
+            return this.y;
+        }
+
+        @Override
+        public double getZ() {
+            return this.z;
+        }
+    }
+
+    private static long tickObjects(@Nonnull final ObjectArray<IParticleMote> motes, final int interval) {
+        final long start = System.nanoTime();
+        for (int t = 0; t < TICKS; t++) {
+            for (int i = motes.size() - 1; i >= 0; i--) {
+                final IParticleMote mote = motes.get(i);
+                if (interval > 1 && (t + i) % interval != 0) {
+                    final double dX = mote.getX();
+                    final double dY = mote.getY() - 64;
+                    final double dZ = mote.getZ();
+                    if (dX * dX + dY * dY + dZ * dZ > FAR_RANGE_SQ)
+                        continue;
+                }
+                mote.tick(1);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long tickStorage(@Nonnull final MoteStorage storage, final int interval) {
+        final long start = System.nanoTime();
+        for (int t = 0; t < TICKS; t++)
+            storage.tick(interval, 0, 64, 0, FAR_RANGE_SQ);
+        return System.nanoTime() - start;
+    }
+
+    public static void main(final String[] args) {
+        for (final int size : SIZES) {
+            for (final int interval : new int[]{1, 4}) {
+                long objectNanos = Long.MAX_VALUE;
+                long storageNanos = Long.MAX_VALUE;
+                for (int round = 0; round < ROUNDS; round++) {
+                    final ObjectArray<IParticleMote> motes = new ObjectArray<>(size);
+                    final MoteStorage storage = new MoteStorage(size);
+                    for (int i = 0; i < size; i++) {
+                        motes.add(new DriftMote(i));
+                        storage.add(new DriftMote(i));
+                    }
+                    objectNanos = Math.min(objectNanos, tickObjects(motes, interval));
+                    storageNanos = Math.min(storageNanos, tickStorage(storage, interval));
+                }
+
+                final double perMote = (double) TICKS * size;
+                System.out.println(String.format("%5d motes, interval %d: objects %.2fns, storage %.2fns per mote tick",
+                        size, interval, objectNanos / perMote, storageNanos / perMote));
+            }
+        }
+    }
+}